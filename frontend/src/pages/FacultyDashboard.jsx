@@ -527,7 +527,7 @@ const FacultyDashboard = () => {
                             )}
                         </div>
 
-                        {viewingSubmission.status === 'APPLIED' && (
+                        {(viewingSubmission.status === 'APPLIED' || viewingSubmission.status === 'WAITLISTED') && (
                             <div className="modal-actions">
                                 <button
                                     className="btn btn-success"
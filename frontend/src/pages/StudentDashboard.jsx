@@ -1,7 +1,7 @@
 import { useState, useEffect } from 'react';
 import { Link } from 'react-router-dom';
 import { useAuth } from '../context/AuthContext';
-import { studentAPI, eventsAPI } from '../services/api';
+import { studentAPI } from '../services/api';
 import BackButton from '../components/BackButton';
 import './StudentDashboard.css';
 import TeacherSearch from '../components/TeacherSearch';
@@ -9,7 +9,6 @@ import TeacherSearch from '../components/TeacherSearch';
 const StudentDashboard = () => {
     const { user, logout } = useAuth();
     const [registrations, setRegistrations] = useState([]);
-    const [events, setEvents] = useState([]);
     const [loading, setLoading] = useState(true);
     const [selectedReg, setSelectedReg] = useState(null);
 
@@ -21,12 +20,9 @@ const StudentDashboard = () => {
         if (!user?.userId) return;
         setLoading(true);
         try {
-            const [regsRes, eventsRes] = await Promise.all([
-                studentAPI.getMyRegistrations(user.userId),
-                eventsAPI.getAllEvents()
-            ]);
+            // Registrations already carry event name and club name
+            const regsRes = await studentAPI.getDashboard();
             setRegistrations(regsRes.data);
-            setEvents(eventsRes.data);
         } catch (err) {
             console.error('Error fetching data:', err);
         } finally {
@@ -34,10 +30,7 @@ const StudentDashboard = () => {
         }
     };
 
-    const getEventName = (eventId) => {
-        const event = events.find(e => e.eventId === eventId);
-        return event?.eventName || `Event #${eventId}`;
-    };
+    const getEventName = (reg) => reg.eventName || `Event #${reg.eventId}`;
 
     const formatDate = (dateString) => {
         if (!dateString) return 'N/A';
@@ -87,7 +80,7 @@ const StudentDashboard = () => {
                         {registrations.length > 0 ? (
                             registrations.map(reg => (
                                 <tr key={reg.regId}>
-                                    <td>{getEventName(reg.eventId)}</td>
+                                    <td>{getEventName(reg)}</td>
                                     <td>{formatDate(reg.submissionDate)}</td>
                                     <td>
                                         <span className={`status-badge ${getStatusClass(reg.status)}`} data-status={reg.status}>
@@ -121,7 +114,7 @@ const StudentDashboard = () => {
                         <h3>📄 Registration Details</h3>
                         <ul className="details-list">
                             <li><strong>Registration ID:</strong> {selectedReg.regId}</li>
-                            <li><strong>Event:</strong> {getEventName(selectedReg.eventId)}</li>
+                            <li><strong>Event:</strong> {getEventName(selectedReg)}{selectedReg.clubName ? ` (${selectedReg.clubName})` : ''}</li>
                             <li><strong>Status:</strong> {selectedReg.status}</li>
                             <li><strong>Submitted:</strong> {formatDate(selectedReg.submissionDate)}</li>
                             {selectedReg.formData && (
@@ -62,6 +62,42 @@ export const eventsAPI = {
   getEventById: (eventId) => api.get(`/events/${eventId}`),
   getUpcomingEvents: () => api.get('/events/upcoming'),
   getEventsByClubId: (clubId) => api.get(`/events/club/${clubId}`),
+  // params: { clubId, from, to, cursor, limit } -> { items, nextCursor, hasMore }
+  getEventPage: (params) => api.get('/events/page', { params }),
+  // "Trending now": [{ eventId, eventName, clubId, eventDate, registrations, windowMinutes }]
+  getTrendingEvents: (limit) => api.get('/events/trending', { params: { limit } }),
+};
+
+// ==================== SEARCH API (Public) ====================
+export const searchAPI = {
+  // params: { q, type: 'events' | 'clubs', page, size } -> { items, page, size, hasMore }
+  search: (params) => api.get('/search', { params }),
+};
+
+// ==================== LIVE UPDATES (SSE) ====================
+export const liveAPI = {
+  // new EventSource(liveAPI.streamUrl()); listen for EVENT_CHANGED, EVENT_DELETED,
+  // REGISTRATION_ADDED and REGISTRATION_STATUS_CHANGED. On reconnect, reload lists once.
+  streamUrl: () => `${API_BASE_URL}/live/stream?access_token=${encodeURIComponent(localStorage.getItem('token') || '')}`,
+};
+
+// ==================== CHANGE FEED (incremental sync) ====================
+export const changesAPI = {
+  // params: { since, limit } -> { watermark, fullResync, hasMore, events, clubs, venues, registrations, deleted }
+  // Upsert rows by id, drop the ids in deleted, keep watermark for the next call (repeat while hasMore).
+  getChanges: (params) => api.get('/changes', { params }),
+};
+
+// ==================== ARCHIVE (past events, read-only) ====================
+export const archiveAPI = {
+  // params: { clubId, cursor, limit } -> { items, nextCursor, hasMore }, newest first
+  getEvents: (params) => api.get('/archive/events', { params }),
+  // Faculty, own club only; params: { eventId, page, size } -> { items, page, size, hasMore }
+  getSubmissions: (clubId, params) => api.get(`/archive/submissions/${clubId}`, { params }),
+  getMyRegistrations: () => api.get('/archive/my-registrations'),
+  // Admin
+  getAllEvents: (params) => api.get('/archive/admin/events', { params }),
+  runArchival: () => api.post('/archive/admin/run'),
 };
 
 // ==================== STATS API (Public) ====================
@@ -90,6 +126,25 @@ export const studentAPI = {
 
   // Get user's registrations
   getMyRegistrations: (userId) => api.get(`/student/my-registrations/${userId}`),
+
+  // Logged-in user's registrations with event name/date and club name, in one call
+  getDashboard: () => api.get('/student/dashboard'),
+
+  // Upcoming events co-registered with the logged-in user's events: [{ eventId, eventName, clubId, eventDate, score }]
+  getRecommendations: (limit) => api.get('/student/recommendations', { params: { limit } }),
+
+  // Signed code for door check-in (APPROVED registrations only) -> { regId, eventId, code }
+  getCheckInCode: (regId) => api.get(`/student/checkin-code/${regId}`),
+};
+
+// ==================== CHECK-IN API (Faculty, at the door) ====================
+export const checkInAPI = {
+  // Load approved registrations into memory; returns { checkedIn, approved }
+  open: (eventId) => api.post(`/faculty/checkin/${eventId}/open`),
+  // -> { result: CHECKED_IN | ALREADY_CHECKED_IN | NOT_APPROVED | INVALID_CODE | WRONG_EVENT | NOT_OPEN, regId, attendeeName, checkedIn, approved }
+  scan: (eventId, code) => api.post(`/faculty/checkin/${eventId}/scan`, { code }),
+  getStatus: (eventId) => api.get(`/faculty/checkin/${eventId}`),
+  close: (eventId) => api.post(`/faculty/checkin/${eventId}/close`),
 };
 
 // ==================== FACULTY API ====================
@@ -107,8 +162,15 @@ export const facultyAPI = {
 
   // Submissions/Registrations
   getSubmissions: (clubId) => api.get(`/faculty/submissions/${clubId}`),
+  // params: { eventId, status, sort, dir, page, size, "f.<field>": value } -> { items, page, size, hasMore }
+  querySubmissions: (clubId, params) => api.get(`/faculty/submissions/${clubId}/query`, { params }),
+  // params: { format: 'csv' | 'xlsx', eventId, status }; returns a file download
+  exportSubmissions: (clubId, params) =>
+    api.get(`/faculty/submissions/${clubId}/export`, { params, responseType: 'blob' }),
   updateRegistrationStatus: (regId, status) =>
     api.put(`/faculty/update-status/${regId}`, null, { params: { status } }),
+  // body: { status, regIds } or { status, eventId, currentStatus } -> { status, updated, skipped }
+  updateRegistrationStatusBulk: (body) => api.put('/faculty/update-status/bulk', body),
 };
 
 // ==================== ADMIN API ====================
@@ -121,6 +183,7 @@ export const adminAPI = {
 
   // Event Management
   getAllEvents: () => api.get('/admin/events'),
+  getEventPage: (params) => api.get('/admin/events/page', { params }),
   addEvent: (event) => api.post('/admin/events/add', event),
   updateEvent: (eventId, eventData) => api.put(`/admin/events/${eventId}`, eventData),
   deleteEvent: (eventId) => api.delete(`/admin/events/${eventId}`),
@@ -141,6 +204,13 @@ export const adminAPI = {
 export const scheduleAPI = {
     // Current class search
     searchRealTime: (name) => api.get(`/office/schedule/search/now?name=${name}`),
+
+    // Whole staff board in one call (shared server-side snapshot)
+    getStaffBoard: () => api.get('/office/schedule/search/now/all'),
+
+    // Who is in a room / block right now and what comes next
+    getRoomStatus: (room) => api.get('/office/schedule/search/room', { params: { room } }),
+    getBlockStatus: (prefix) => api.get('/office/schedule/search/block', { params: { prefix } }),
     
     // Find teacher's cabin
     getCabin: (name) => api.get(`/office/schedule/cabin?name=${name}`),
@@ -169,6 +239,9 @@ export const scheduleAPI = {
     },
 
     getTeacherScheduleData: (email) => api.get(`/office/schedule/teachers/schedule-data`, { params: { email } }),
+
+    // Room / teacher clash report (timetables + confirmed bookings)
+    getClashes: () => api.get('/office/schedule/clashes'),
 };
 
 // ==================== VENUE BOOKING API ====================
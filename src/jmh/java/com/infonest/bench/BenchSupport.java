@@ -0,0 +1,45 @@
+package com.infonest.bench;
+
+import com.infonest.config.JwtUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.function.Function;
+
+// Shared fixtures: beans are wired by hand so no Spring context or database is needed
+final class BenchSupport {
+
+    static final String SECRET = "MySuperSecretKeyForInfoNestProject2025MakeItLonger";
+
+    private BenchSupport() {
+    }
+
+    static JwtUtils jwtUtils() {
+        JwtUtils jwtUtils = new JwtUtils();
+        ReflectionTestUtils.setField(jwtUtils, "jwtSecret", SECRET);
+        ReflectionTestUtils.setField(jwtUtils, "jwtExpirationMs", 86_400_000);
+        return jwtUtils;
+    }
+
+    /**
+     * In-memory stand-in for a Spring Data repository: only the named methods are
+     * implemented, anything else fails loudly. Cheaper and more predictable per
+     * call than a mocking framework, which matters inside a benchmark loop.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> methods) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> {
+            Function<Object[], Object> impl = methods.get(method.getName());
+            if (impl != null) return impl.apply(args);
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> type.getSimpleName() + " stub";
+                };
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName() + " is not stubbed");
+        });
+    }
+}
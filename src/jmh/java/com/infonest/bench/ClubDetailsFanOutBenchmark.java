@@ -0,0 +1,127 @@
+package com.infonest.bench;
+
+import com.infonest.controller.ClubController;
+import com.infonest.dto.FacultySummary;
+import com.infonest.model.Club;
+import com.infonest.model.Event;
+import com.infonest.repository.ClubRepository;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.UserRepository;
+import com.infonest.service.FanOutService;
+import com.infonest.service.RegistrationCounterService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Club details page, sequential (the code before the fan-out port, kept here as
+ * the baseline) vs ClubController's fan-out. Repositories sleep to stand in for
+ * DB round-trips: club 1x, events 3x, faculty 2x the base latency, so sequential
+ * should cost ~6x and fan-out ~3x. The *UnderLoad variants run more request
+ * threads than the fan-out pool has, so some branches run inline on the caller.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClubDetailsFanOutBenchmark {
+
+    private static final String CLUB_ID = "CODE";
+
+    @Param({ "1", "5" })
+    public int dbLatencyMs;
+
+    private ClubRepository clubRepository;
+    private EventRepository eventRepository;
+    private UserRepository userRepository;
+    private RegistrationCounterService registrationCounterService;
+    private FanOutService fanOutService;
+    private ClubController controller;
+
+    @Setup
+    public void setUp() {
+        Club club = new Club(CLUB_ID, "Coding Club", "desc");
+        List<Event> events = new ArrayList<>();
+        for (long i = 1; i <= 20; i++) {
+            Event e = new Event();
+            e.setEventId(i);
+            e.setClubId(CLUB_ID);
+            e.setEventName("Event " + i);
+            e.setRegistrationCount(i * 3);
+            events.add(e);
+        }
+        List<FacultySummary> faculty = List.of(new FacultySummary(9L, "Asha", "Rao", "asha@banasthali.in"));
+
+        clubRepository = BenchSupport.repository(ClubRepository.class, Map.of(
+                "findById", args -> delayed(dbLatencyMs, Optional.of(club))));
+        eventRepository = BenchSupport.repository(EventRepository.class, Map.of(
+                "findByClubIdAndHiddenFalse", args -> delayed(3 * dbLatencyMs, events)));
+        userRepository = BenchSupport.repository(UserRepository.class, Map.of(
+                "findFacultySummaryByClubId", args -> delayed(2 * dbLatencyMs, faculty)));
+        registrationCounterService = new RegistrationCounterService();
+        fanOutService = new FanOutService();
+
+        controller = new ClubController();
+        ReflectionTestUtils.setField(controller, "clubRepository", clubRepository);
+        ReflectionTestUtils.setField(controller, "eventRepository", eventRepository);
+        ReflectionTestUtils.setField(controller, "userRepository", userRepository);
+        ReflectionTestUtils.setField(controller, "registrationCounterService", registrationCounterService);
+        ReflectionTestUtils.setField(controller, "fanOutService", fanOutService);
+    }
+
+    @TearDown
+    public void tearDown() {
+        ReflectionTestUtils.invokeMethod(fanOutService, "stop");
+    }
+
+    @Benchmark
+    @Threads(16)
+    public Map<String, Object> sequentialUnderLoad() {
+        return sequential();
+    }
+
+    @Benchmark
+    public Map<String, Object> sequential() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("club", clubRepository.findById(CLUB_ID).orElse(null));
+        List<Event> events = eventRepository.findByClubIdAndHiddenFalse(CLUB_ID);
+        response.put("events", events.stream().map(event -> {
+            Map<String, Object> eventData = new HashMap<>();
+            eventData.put("details", event);
+            eventData.put("regCount", registrationCounterService.count(event));
+            return eventData;
+        }).collect(Collectors.toList()));
+        response.put("faculty", userRepository.findFacultySummaryByClubId(CLUB_ID));
+        return response;
+    }
+
+    @Benchmark
+    public ResponseEntity<?> fanOut() {
+        return controller.getClubFullDetails(CLUB_ID);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public ResponseEntity<?> fanOutUnderLoad() {
+        return controller.getClubFullDetails(CLUB_ID);
+    }
+
+    private static <T> T delayed(int ms, T value) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
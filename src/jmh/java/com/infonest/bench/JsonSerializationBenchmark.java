@@ -0,0 +1,88 @@
+package com.infonest.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infonest.model.Event;
+import com.infonest.model.Venue;
+import com.infonest.model.VenueBooking;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Response bodies of the list endpoints, with an ObjectMapper configured like Spring Boot's
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    @Param({ "100", "1000" })
+    public int size;
+
+    private ObjectMapper objectMapper;
+    private List<Event> events;
+    private List<VenueBooking> bookings;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        events = new ArrayList<>(size);
+        bookings = new ArrayList<>(size);
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        for (int i = 0; i < size; i++) {
+            Event e = new Event();
+            e.setEventId((long) i);
+            e.setClubId("CLUB" + i % 12);
+            e.setVenueId(String.valueOf(i % 40));
+            e.setEventName("Event " + i);
+            e.setDescription("A typical event description that runs for a sentence or two, "
+                    + "with a little detail about the speakers, the agenda and what to bring. #" + i);
+            e.setEventDate(start.plusDays(i % 300));
+            e.setEventTime(LocalTime.of(10 + i % 8, 0));
+            e.setDeadline(start.plusDays(i % 300).minusDays(2));
+            e.setRegistrationFormLink("https://forms.example.org/" + i);
+            e.setSeatLimit(i % 3 == 0 ? null : 120);
+            e.setRegistrationCount((long) (i * 7 % 300));
+            e.setUpdatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i));
+            events.add(e);
+
+            Venue v = new Venue();
+            v.setVenueId((long) (i % 40));
+            v.setName("Room " + i % 40);
+            v.setType("CLASSROOM");
+            v.setCapacity(60);
+            v.setLocation("Block A");
+            VenueBooking b = new VenueBooking();
+            b.setBookingId((long) i);
+            b.setBookedByEmail("faculty" + i % 30 + "@banasthali.in");
+            b.setBookedByName("Faculty " + i % 30);
+            b.setVenue(v);
+            b.setBookingDate(start.plusDays(i % 60));
+            b.setStartTime(LocalTime.of(8 + i % 9, 0));
+            b.setEndTime(LocalTime.of(8 + i % 9, 50));
+            b.setPurpose("WORKSHOP");
+            b.setEventName("Workshop " + i);
+            b.setBookingType("EVENT");
+            b.setCreatedAt(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(i));
+            bookings.add(b);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeEvents() throws Exception {
+        return objectMapper.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeVenueBookings() throws Exception {
+        return objectMapper.writeValueAsBytes(bookings);
+    }
+}
@@ -0,0 +1,50 @@
+package com.infonest.bench;
+
+import com.infonest.config.JwtUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// JwtUtils: every authenticated request parses the same token several times
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtils = BenchSupport.jwtUtils();
+        token = jwtUtils.generateToken("asha@banasthali.in", "FACULTY", "CODE");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken("asha@banasthali.in", "FACULTY", "CODE");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtils.validateToken(token);
+    }
+
+    @Benchmark
+    public String extractEmail() {
+        return jwtUtils.extractEmail(token);
+    }
+
+    // What the filter plus a faculty endpoint do today: four full parse + verify passes
+    @Benchmark
+    public void authenticatedFacultyRequest(Blackhole bh) {
+        bh.consume(jwtUtils.extractEmail(token));
+        bh.consume(jwtUtils.validateToken(token));
+        bh.consume(jwtUtils.extractRole(token));
+        bh.consume(jwtUtils.extractClubId(token));
+    }
+}
@@ -0,0 +1,82 @@
+package com.infonest.bench;
+
+import com.infonest.repository.ScheduleRepository;
+import com.infonest.service.RoomOccupancyService;
+import com.infonest.service.ScheduleService;
+import com.infonest.service.StaffLocationService;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// ScheduleService.importExcel on a generated timetable: XLSX parse, row mapping, in-memory index update
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ScheduleImportBenchmark {
+
+    private static final String[] DAYS = { "Monday", "Wednesday", "Thursday", "Friday", "Saturday" };
+
+    // Timetable rows per upload
+    @Param({ "50", "500" })
+    public int rows;
+
+    private ScheduleService scheduleService;
+    private MockMultipartFile file;
+
+    @Setup
+    public void setUp() throws IOException {
+        ScheduleRepository repository = BenchSupport.repository(ScheduleRepository.class, Map.of(
+                "deleteByEmail", args -> null,
+                "saveAll", args -> args[0]));
+
+        scheduleService = new ScheduleService();
+        ReflectionTestUtils.setField(scheduleService, "repository", repository);
+        ReflectionTestUtils.setField(scheduleService, "staffLocationService", new StaffLocationService());
+        ReflectionTestUtils.setField(scheduleService, "roomOccupancyService", new RoomOccupancyService());
+
+        file = new MockMultipartFile("file", "timetable.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", workbook(rows));
+    }
+
+    @Benchmark
+    public void importExcel() throws Exception {
+        // allowClashes = true: the clash check is a DB query, out of scope offline
+        scheduleService.importExcel(file, "asha@banasthali.in", "Asha Rao", true, true);
+    }
+
+    private static byte[] workbook(int rows) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Schedule");
+            String[] header = { "Teacher", "Day", "Subject", "Batch", "Room", "Start", "End", "Cabin" };
+            Row head = sheet.createRow(0);
+            for (int c = 0; c < header.length; c++) {
+                head.createCell(c).setCellValue(header[c]);
+            }
+            for (int r = 1; r <= rows; r++) {
+                int hour = 8 + (r % 9);
+                Row row = sheet.createRow(r);
+                row.createCell(0).setCellValue("Asha Rao");
+                row.createCell(1).setCellValue(DAYS[r % DAYS.length]);
+                row.createCell(2).setCellValue("Subject " + (r % 12));
+                row.createCell(3).setCellValue("B.Tech CSE " + (r % 4 + 1));
+                row.createCell(4).setCellValue("Room " + (100 + r % 40));
+                row.createCell(5).setCellValue(hour + ":00");
+                row.createCell(6).setCellValue(hour + ":50");
+                row.createCell(7).setCellValue("Cabin " + (r % 10));
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
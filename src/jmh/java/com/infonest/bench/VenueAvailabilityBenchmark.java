@@ -0,0 +1,97 @@
+package com.infonest.bench;
+
+import com.infonest.controller.VenueController;
+import com.infonest.model.Venue;
+import com.infonest.model.VenueBooking;
+import com.infonest.repository.VenueBookingRepository;
+import com.infonest.repository.VenueRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VenueController.getAvailableVenues: token role check plus one conflict lookup
+ * per candidate venue. Repositories are in-memory, so this measures the
+ * request's own work and its per-venue call pattern, not database latency.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VenueAvailabilityBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 3, 14);
+
+    @Param({ "20", "200" })
+    public int venues;
+
+    @Param({ "10" })
+    public int bookingsPerVenue;
+
+    private VenueController controller;
+    private String authHeader;
+
+    @Setup
+    public void setUp() {
+        List<Venue> all = new ArrayList<>();
+        Map<Long, List<VenueBooking>> bookings = new HashMap<>();
+        for (long id = 1; id <= venues; id++) {
+            Venue v = new Venue();
+            v.setVenueId(id);
+            v.setName("Room " + id);
+            v.setType(id % 5 == 0 ? "AUDITORIUM" : "CLASSROOM");
+            v.setCapacity((int) (30 + id % 10 * 20));
+            all.add(v);
+
+            List<VenueBooking> list = new ArrayList<>();
+            for (int b = 0; b < bookingsPerVenue; b++) {
+                VenueBooking booking = new VenueBooking();
+                booking.setVenue(v);
+                booking.setBookingDate(DATE.plusDays(b % 3));
+                booking.setStartTime(LocalTime.of(8 + b % 9, 0));
+                booking.setEndTime(LocalTime.of(8 + b % 9, 50));
+                list.add(booking);
+            }
+            bookings.put(id, list);
+        }
+
+        VenueRepository venueRepository = BenchSupport.repository(VenueRepository.class, Map.of(
+                "findByIsActiveTrue", args -> all));
+        // Same predicate as the JPQL in VenueBookingRepository.findConflictingBookings
+        VenueBookingRepository bookingRepository = BenchSupport.repository(VenueBookingRepository.class, Map.of(
+                "findConflictingBookings", args -> {
+                    LocalDate date = (LocalDate) args[1];
+                    LocalTime start = (LocalTime) args[2];
+                    LocalTime end = (LocalTime) args[3];
+                    List<VenueBooking> conflicts = new ArrayList<>();
+                    for (VenueBooking b : bookings.getOrDefault((Long) args[0], List.of())) {
+                        if (b.getBookingDate().equals(date) && "CONFIRMED".equals(b.getStatus())
+                                && b.getStartTime().isBefore(end) && b.getEndTime().isAfter(start)) {
+                            conflicts.add(b);
+                        }
+                    }
+                    return conflicts;
+                }));
+
+        controller = new VenueController();
+        ReflectionTestUtils.setField(controller, "venueRepository", venueRepository);
+        ReflectionTestUtils.setField(controller, "venueBookingRepository", bookingRepository);
+        ReflectionTestUtils.setField(controller, "jwtUtils", BenchSupport.jwtUtils());
+        authHeader = "Bearer " + BenchSupport.jwtUtils().generateToken("asha@banasthali.in", "FACULTY", "CODE");
+    }
+
+    @Benchmark
+    public ResponseEntity<?> searchAvailable() {
+        return controller.getAvailableVenues(DATE, LocalTime.of(10, 0), LocalTime.of(11, 0), null, null, authHeader);
+    }
+}
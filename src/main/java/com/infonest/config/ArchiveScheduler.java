@@ -0,0 +1,19 @@
+package com.infonest.config;
+
+import com.infonest.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ArchiveScheduler {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    // Nightly at 2 AM — move old events and their registrations to the archive tables
+    @Scheduled(cron = "0 0 2 * * *")
+    public void archiveOldEvents() {
+        archiveService.archiveOldEvents();
+    }
+}
@@ -2,6 +2,8 @@ package com.infonest.config;
 
 import com.infonest.model.VenueBooking;
 import com.infonest.repository.VenueBookingRepository;
+import com.infonest.service.RoomOccupancyService;
+import com.infonest.service.StaffLocationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
@@ -16,6 +18,12 @@ public class BookingCleanupScheduler {
     @Autowired
     private VenueBookingRepository venueBookingRepository;
 
+    @Autowired
+    private StaffLocationService staffLocationService;
+
+    @Autowired
+    private RoomOccupancyService roomOccupancyService;
+
     // Runs every 5 minutes — deletes bookings whose time has passed
     @Scheduled(fixedRate = 300000)
     public void cleanupExpiredBookings() {
@@ -23,6 +31,7 @@ public class BookingCleanupScheduler {
         LocalTime now = LocalTime.now();
 
         List<VenueBooking> allBookings = venueBookingRepository.findAll();
+        boolean removed = false;
 
         for (VenueBooking booking : allBookings) {
             if ("CONFIRMED".equals(booking.getStatus())) {
@@ -30,8 +39,14 @@ public class BookingCleanupScheduler {
                 if (booking.getBookingDate().isBefore(today) ||
                         (booking.getBookingDate().isEqual(today) && booking.getEndTime().isBefore(now))) {
                     venueBookingRepository.delete(booking);
+                    roomOccupancyService.removeBooking(booking.getBookingId());
+                    removed = true;
                 }
             }
         }
+
+        if (removed) {
+            staffLocationService.invalidate();
+        }
     }
 }
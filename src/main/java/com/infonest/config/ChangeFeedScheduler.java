@@ -0,0 +1,24 @@
+package com.infonest.config;
+
+import com.infonest.service.ChangeFeedService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ChangeFeedScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(ChangeFeedScheduler.class);
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    // Nightly — the tombstone log only needs to cover the retention window
+    @Scheduled(cron = "0 30 3 * * *")
+    public void pruneTombstones() {
+        int removed = changeFeedService.pruneTombstones();
+        if (removed > 0) log.info("Pruned {} change tombstones", removed);
+    }
+}
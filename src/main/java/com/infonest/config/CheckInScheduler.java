@@ -0,0 +1,19 @@
+package com.infonest.config;
+
+import com.infonest.service.CheckInService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class CheckInScheduler {
+
+    @Autowired
+    private CheckInService checkInService;
+
+    // Every second — write queued door scans as one batch
+    @Scheduled(fixedDelay = 1000)
+    public void flushCheckIns() {
+        checkInService.flush();
+    }
+}
@@ -0,0 +1,37 @@
+package com.infonest.config;
+
+import com.infonest.service.EventReminderService;
+import com.infonest.service.RegistrationDeadlineService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EventReminderScheduler {
+
+    private static final long DRAIN_INTERVAL_MS = 10000;
+
+    @Autowired
+    private RegistrationDeadlineService registrationDeadlineService;
+
+    @Autowired
+    private EventReminderService eventReminderService;
+
+    // Just after midnight — yesterday's deadlines close
+    @Scheduled(cron = "5 0 0 * * *")
+    public void closeExpiredRegistrations() {
+        registrationDeadlineService.closeExpired();
+    }
+
+    // Every morning at 8 — queue reminders for the events coming up
+    @Scheduled(cron = "0 0 8 * * *")
+    public void buildReminders() {
+        eventReminderService.buildReminders();
+    }
+
+    // Every 10 seconds — hand queued reminders to the sender thread, within the mail rate limit
+    @Scheduled(fixedDelay = DRAIN_INTERVAL_MS)
+    public void sendReminders() {
+        eventReminderService.drain(DRAIN_INTERVAL_MS);
+    }
+}
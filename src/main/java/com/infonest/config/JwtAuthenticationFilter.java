@@ -38,6 +38,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             token = authHeader.substring(7);
+        } else if (path.startsWith("/api/v1/live/")) {
+            // Browser EventSource can't send headers; SSE stream only
+            token = request.getParameter("access_token");
+        }
+
+        if (token != null) {
             try {
                 email = jwtUtils.extractEmail(token);
             } catch (Exception e) {
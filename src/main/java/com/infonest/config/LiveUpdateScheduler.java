@@ -0,0 +1,19 @@
+package com.infonest.config;
+
+import com.infonest.service.LiveUpdateBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class LiveUpdateScheduler {
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    // Every 20 seconds — SSE comment so idle streams stay open and dead ones are noticed
+    @Scheduled(fixedDelay = 20000)
+    public void heartbeat() {
+        liveUpdateBus.heartbeat();
+    }
+}
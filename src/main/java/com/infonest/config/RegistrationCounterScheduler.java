@@ -0,0 +1,25 @@
+package com.infonest.config;
+
+import com.infonest.service.RegistrationCounterService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class RegistrationCounterScheduler {
+
+    @Autowired
+    private RegistrationCounterService registrationCounterService;
+
+    // Every 5 seconds — write pending registration deltas to events.registration_count
+    @Scheduled(fixedDelay = 5000)
+    public void flushCounters() {
+        registrationCounterService.flush();
+    }
+
+    // Every 15 minutes — recount from the registrations table where the column drifted
+    @Scheduled(fixedDelay = 900000, initialDelay = 60000)
+    public void reconcileCounters() {
+        registrationCounterService.reconcile();
+    }
+}
@@ -1,5 +1,6 @@
 package com.infonest.config;
 
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,6 +42,8 @@ public class SecurityConfig {
                 .csrf(csrf -> csrf.disable())
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .authorizeHttpRequests(auth -> auth
+                        // Async re-dispatches (SSE stream, streamed exports) were authorized on the original request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Auth endpoints open
                         .requestMatchers("/api/v1/auth/**").permitAll()
                         // Allow public access to static pages (frontend will check role/client-side)
@@ -59,6 +62,9 @@ public class SecurityConfig {
                         .requestMatchers("/api/v1/events/upcoming", "/api/v1/clubs/all").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/events/**").permitAll()
                         .requestMatchers("/api/v1/clubs/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/search").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/changes").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/archive/events").permitAll()
                         // Admin APIs
                         .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
                         // Faculty APIs
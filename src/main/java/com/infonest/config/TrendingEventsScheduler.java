@@ -0,0 +1,19 @@
+package com.infonest.config;
+
+import com.infonest.service.TrendingEventsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class TrendingEventsScheduler {
+
+    @Autowired
+    private TrendingEventsService trendingEventsService;
+
+    // Every 15 seconds — re-rank the trending strip from the in-memory buckets
+    @Scheduled(fixedDelay = 15000)
+    public void refreshTrending() {
+        trendingEventsService.refresh();
+    }
+}
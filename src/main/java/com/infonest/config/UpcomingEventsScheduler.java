@@ -0,0 +1,19 @@
+package com.infonest.config;
+
+import com.infonest.service.UpcomingEventsCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class UpcomingEventsScheduler {
+
+    @Autowired
+    private UpcomingEventsCache upcomingEventsCache;
+
+    // Just after midnight — yesterday's events drop off the upcoming list
+    @Scheduled(cron = "1 0 0 * * *")
+    public void rolloverUpcomingEvents() {
+        upcomingEventsCache.rollover();
+    }
+}
@@ -1,12 +1,21 @@
 package com.infonest.controller;
 
+import com.infonest.dto.EventPage;
 import com.infonest.model.Club;
 import com.infonest.model.Event;
 import com.infonest.model.User;
 import com.infonest.repository.ClubRepository;
 import com.infonest.repository.EventRepository;
+import com.infonest.service.EventQueryService;
+import com.infonest.service.EventsRemoved;
+import com.infonest.service.LiveUpdateBus;
+import com.infonest.service.RegistrationDeadlineService;
+import com.infonest.service.SeatAllocationService;
+import com.infonest.service.UpcomingEventsCache;
 import com.infonest.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/admin")
@@ -26,9 +36,27 @@ public class AdminController {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    @Autowired
+    private RegistrationDeadlineService registrationDeadlineService;
+
+    @Autowired
+    private UpcomingEventsCache upcomingEventsCache;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Autowired
+    private EventQueryService eventQueryService;
+
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // ==================== CLUB MANAGEMENT ====================
 
     // 1. GET ALL CLUBS
@@ -88,6 +116,22 @@ public class AdminController {
         return ResponseEntity.ok(eventRepository.findAll());
     }
 
+    // Paginated list of all events (hidden filter optional, no description)
+    @GetMapping("/events/page")
+    public ResponseEntity<?> getEventPage(@RequestParam(required = false) String clubId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Boolean hidden,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            EventPage page = eventQueryService.listEvents(clubId, from, to, hidden, cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // 6. ADD EVENT (for any club)
     @PostMapping("/events/add")
     public ResponseEntity<String> addEvent(@RequestBody Event event) {
@@ -116,6 +160,9 @@ public class AdminController {
         }
 
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        liveUpdateBus.eventChanged(event);
+        registrationDeadlineService.refresh(event.getEventId());
         return ResponseEntity.ok("Event '" + event.getEventName() + "' added successfully!");
     }
 
@@ -156,8 +203,13 @@ public class AdminController {
         event.setEventTime(eventDetails.getEventTime());
         event.setDeadline(eventDetails.getDeadline());
         event.setRegistrationFormLink(eventDetails.getRegistrationFormLink());
+        event.setSeatLimit(eventDetails.getSeatLimit());
 
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        liveUpdateBus.eventChanged(event);
+        seatAllocationService.refresh(event.getEventId());
+        registrationDeadlineService.refresh(event.getEventId());
         return ResponseEntity.ok("Event updated successfully!");
     }
 
@@ -170,6 +222,7 @@ public class AdminController {
         }
 
         eventRepository.deleteById(eventId);
+        eventPublisher.publishEvent(EventsRemoved.deleted(eventId));
         return ResponseEntity.ok("Event deleted successfully!");
     }
 
@@ -187,6 +240,8 @@ public class AdminController {
         boolean newStatus = !Boolean.TRUE.equals(event.getHidden());
         event.setHidden(newStatus);
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        liveUpdateBus.eventChanged(event);
 
         String statusText = newStatus ? "hidden" : "visible";
         return ResponseEntity.ok("Event is now " + statusText + "!");
@@ -204,6 +259,8 @@ public class AdminController {
 
         event.setHidden(hidden);
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        liveUpdateBus.eventChanged(event);
 
         String statusText = hidden ? "hidden" : "visible";
         return ResponseEntity.ok("Event is now " + statusText + "!");
@@ -0,0 +1,89 @@
+package com.infonest.controller;
+
+import com.infonest.config.JwtUtils;
+import com.infonest.model.User;
+import com.infonest.repository.UserRepository;
+import com.infonest.service.ArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+// Read-only history of archived (past) events; live lists never include these
+@RestController
+@RequestMapping("/api/v1/archive")
+public class ArchiveController {
+
+    @Autowired
+    private ArchiveService archiveService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    // PUBLIC: Archived visible events, newest first
+    // e.g. /api/v1/archive/events?clubId=CODE&limit=20&cursor=...
+    @GetMapping("/events")
+    public ResponseEntity<?> getArchivedEvents(@RequestParam(required = false) String clubId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(archiveService.listEvents(clubId, false, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // FACULTY: Apne club ke purane submissions
+    @GetMapping("/submissions/{clubId}")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> getArchivedSubmissions(@PathVariable String clubId,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestHeader("Authorization") String authHeader) {
+        String facultyClubId = authHeader.startsWith("Bearer ") ? jwtUtils.extractClubId(authHeader.substring(7)) : null;
+        if (facultyClubId == null || !facultyClubId.equals(clubId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only view submissions for your own club!");
+        }
+        return ResponseEntity.ok(archiveService.clubSubmissions(clubId, eventId, page, size));
+    }
+
+    // STUDENT: Logged-in user's archived registrations
+    @GetMapping("/my-registrations")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<?> getMyArchivedRegistrations(Authentication authentication) {
+        User user = userRepository.findByEmail(authentication.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: Unknown user");
+        }
+        return ResponseEntity.ok(archiveService.userRegistrations(user.getUserId()));
+    }
+
+    // ADMIN: All archived events (hidden ones too)
+    @GetMapping("/admin/events")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> getAllArchivedEvents(@RequestParam(required = false) String clubId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            return ResponseEntity.ok(archiveService.listEvents(clubId, true, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
+    // ADMIN: Run the archival job now instead of waiting for the night
+    @PostMapping("/admin/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> runArchival() {
+        return ResponseEntity.ok(Map.of("archivedEvents", archiveService.archiveOldEvents()));
+    }
+}
@@ -0,0 +1,33 @@
+package com.infonest.controller;
+
+import com.infonest.service.ChangeFeedService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/api/v1/changes")
+public class ChangeFeedController {
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    // PUBLIC: Events, clubs, venues (and your registrations, if logged in) created,
+    // updated or deleted since the watermark returned by the previous call.
+    // e.g. /api/v1/changes?since=2025-03-01T10:15:30.123&limit=1000
+    @GetMapping
+    public ResponseEntity<?> changes(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        String email = authentication == null || authentication instanceof AnonymousAuthenticationToken
+                ? null
+                : authentication.getName();
+        return ResponseEntity.ok(changeFeedService.changesSince(since, limit, email));
+    }
+}
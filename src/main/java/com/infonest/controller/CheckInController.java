@@ -0,0 +1,93 @@
+package com.infonest.controller;
+
+import com.infonest.config.JwtUtils;
+import com.infonest.dto.CheckInResult;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import com.infonest.service.CheckInService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/faculty/checkin")
+public class CheckInController {
+
+    @Autowired
+    private CheckInService checkInService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JwtUtils jwtUtils;
+
+    // 1. OPEN: Approved registrations memory mein load - call once at the door (again to reload)
+    @PostMapping("/{eventId}/open")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> open(@PathVariable Long eventId, @RequestHeader("Authorization") String authHeader) {
+        ResponseEntity<?> denied = checkOwnership(eventId, authHeader);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(checkInService.open(eventId, jwtUtils.extractClubId(authHeader.substring(7))));
+    }
+
+    // 2. SCAN: body { "code": "<regId>.<eventId>.<signature>" }
+    // Once open, a scan never touches the DB; the write is batched in the background
+    @PostMapping("/{eventId}/scan")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> scan(@PathVariable Long eventId, @RequestBody Map<String, String> body,
+            @RequestHeader("Authorization") String authHeader) {
+        if (!checkInService.isOpen(eventId)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(checkInService.status(eventId));
+        }
+        ResponseEntity<?> denied = checkOwnership(eventId, authHeader);
+        if (denied != null) return denied;
+
+        CheckInResult result = checkInService.scan(eventId, body.get("code"));
+        return ResponseEntity.ok(result);
+    }
+
+    // 3. STATUS: checked-in / approved counts
+    @GetMapping("/{eventId}")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> status(@PathVariable Long eventId, @RequestHeader("Authorization") String authHeader) {
+        ResponseEntity<?> denied = checkOwnership(eventId, authHeader);
+        if (denied != null) return denied;
+        return ResponseEntity.ok(checkInService.status(eventId));
+    }
+
+    // 4. CLOSE: pending scans are written, memory is released
+    @PostMapping("/{eventId}/close")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> close(@PathVariable Long eventId, @RequestHeader("Authorization") String authHeader) {
+        ResponseEntity<?> denied = checkOwnership(eventId, authHeader);
+        if (denied != null) return denied;
+        CheckInResult finalStatus = checkInService.status(eventId);
+        checkInService.close(eventId);
+        return ResponseEntity.ok(finalStatus);
+    }
+
+    // Open sessions remember their club, so scans skip the event lookup
+    private ResponseEntity<?> checkOwnership(Long eventId, String authHeader) {
+        String clubId = authHeader != null && authHeader.startsWith("Bearer ")
+                ? jwtUtils.extractClubId(authHeader.substring(7))
+                : null;
+        String eventClubId = checkInService.clubOf(eventId);
+        if (eventClubId == null) {
+            Event event = eventRepository.findById(eventId).orElse(null);
+            if (event == null) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Error: Event not found");
+            }
+            eventClubId = event.getClubId();
+        }
+        if (clubId == null || !clubId.equals(eventClubId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only run check-in for your own club's events!");
+        }
+        return null;
+    }
+}
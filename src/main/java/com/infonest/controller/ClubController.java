@@ -1,15 +1,17 @@
 package com.infonest.controller;
 
+import com.infonest.dto.FacultySummary;
 import com.infonest.model.Club;
 import com.infonest.repository.ClubRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import com.infonest.model.Event;
-import com.infonest.model.User;
 import com.infonest.repository.EventRepository;
-import com.infonest.repository.RegistrationRepository;
 import com.infonest.repository.UserRepository;
+import com.infonest.service.FanOutService;
+import com.infonest.service.RegistrationCounterService;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,34 +26,52 @@ public class ClubController {
     @Autowired
     private EventRepository eventRepository;
     @Autowired
-    private RegistrationRepository registrationRepository;
-    @Autowired
     private UserRepository userRepository;
+    @Autowired
+    private RegistrationCounterService registrationCounterService;
+    @Autowired
+    private FanOutService fanOutService;
 
     @GetMapping("/{id}/details")
     public ResponseEntity<?> getClubFullDetails(@PathVariable String id) {
         Map<String, Object> response = new HashMap<>();
 
-        // 1. Club Name aur ID fetch karein
-        Club club = clubRepository.findById(id).orElse(null);
-        response.put("club", club);
+        // Club, events aur faculty ek dusre pe depend nahi karte - teeno saath mein chalte hain
+        FanOutService.Branch<Club> clubBranch = fanOutService.fork("club",
+                () -> clubRepository.findById(id).orElse(null));
+        // Only visible events for public view
+        FanOutService.Branch<List<Event>> eventsBranch = fanOutService.fork("events",
+                () -> eventRepository.findByClubIdAndHiddenFalse(id));
+        // Faculty details (name/email projection only)
+        FanOutService.Branch<List<FacultySummary>> facultyBranch = fanOutService.fork("faculty",
+                () -> userRepository.findFacultySummaryByClubId(id));
 
-        // 2. Events fetch karein (Only visible events for public view)
-        List<Event> events = eventRepository.findByClubIdAndHiddenFalse(id);
+        // 1. Club Name aur ID - without it the page is useless, so a failure fails the request
+        try {
+            response.put("club", clubBranch.join());
+        } catch (FanOutService.BranchFailedException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Club details are unavailable, please retry"));
+        }
 
-        // Logic to add registration count for each event
-        List<Map<String, Object>> eventsWithCounts = events.stream().map(event -> {
+        // 2. Events - registration counts come from the counter column + unflushed deltas (no query)
+        List<Event> events = eventsBranch.joinOrElse(null);
+        List<Map<String, Object>> eventsWithCounts = (events == null ? List.<Event>of() : events).stream().map(event -> {
             Map<String, Object> eventData = new HashMap<>();
             eventData.put("details", event);
-            eventData.put("regCount", registrationRepository.countByEventId(event.getEventId()));
+            eventData.put("regCount", registrationCounterService.count(event));
             return eventData;
         }).collect(Collectors.toList());
-
         response.put("events", eventsWithCounts);
 
-        // 3. Faculty details (Users filtered by club_id)
-        List<User> faculty = userRepository.findByClubId(id);
-        response.put("faculty", faculty);
+        // 3. Faculty
+        List<FacultySummary> faculty = facultyBranch.joinOrElse(null);
+        response.put("faculty", faculty == null ? List.of() : faculty);
+
+        // Some optional part timed out or failed; the page shows what it got
+        if (events == null || faculty == null) {
+            response.put("partial", true);
+        }
 
         return ResponseEntity.ok(response);
     }
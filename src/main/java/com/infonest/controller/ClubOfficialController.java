@@ -1,18 +1,34 @@
 
 package com.infonest.controller;
 
+import com.infonest.dto.BulkStatusRequest;
 import com.infonest.model.Event;
 import com.infonest.model.Registration;
 import com.infonest.repository.EventRepository;
+import com.infonest.service.BulkStatusService;
+import com.infonest.service.CheckInService;
+import com.infonest.service.EventsRemoved;
+import com.infonest.service.LiveUpdateBus;
+import com.infonest.service.RegistrationDeadlineService;
+import com.infonest.service.SeatAllocationService;
+import com.infonest.service.SubmissionExportService;
+import com.infonest.service.SubmissionQueryService;
+import com.infonest.service.UpcomingEventsCache;
 import com.infonest.repository.RegistrationRepository;
 import com.infonest.config.JwtUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/faculty")
@@ -21,15 +37,42 @@ public class ClubOfficialController {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    @Autowired
+    private RegistrationDeadlineService registrationDeadlineService;
+
+    @Autowired
+    private UpcomingEventsCache upcomingEventsCache;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
     @Autowired
     private RegistrationRepository registrationRepository;
 
+    @Autowired
+    private SubmissionQueryService submissionQueryService;
+
+    @Autowired
+    private SubmissionExportService submissionExportService;
+
+    @Autowired
+    private BulkStatusService bulkStatusService;
+
+    @Autowired
+    private CheckInService checkInService;
+
     @Autowired
     private com.infonest.repository.ClubRepository clubRepository;
 
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Helper method to extract clubId from JWT token
     private String getClubIdFromToken(String authHeader) {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
@@ -69,6 +112,9 @@ public class ClubOfficialController {
         event.setHidden(false);
 
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        liveUpdateBus.eventChanged(event);
+        registrationDeadlineService.refresh(event.getEventId());
         return ResponseEntity.ok("Event added successfully!");
     }
 
@@ -129,8 +175,13 @@ public class ClubOfficialController {
         event.setEventTime(eventDetails.getEventTime());
         event.setDeadline(eventDetails.getDeadline());
         event.setRegistrationFormLink(eventDetails.getRegistrationFormLink());
+        event.setSeatLimit(eventDetails.getSeatLimit());
 
         eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        liveUpdateBus.eventChanged(event);
+        seatAllocationService.refresh(event.getEventId());
+        registrationDeadlineService.refresh(event.getEventId());
         return ResponseEntity.ok("Event details updated successfully!");
     }
 
@@ -151,6 +202,7 @@ public class ClubOfficialController {
         }
 
         eventRepository.deleteById(eventId);
+        eventPublisher.publishEvent(EventsRemoved.deleted(eventId));
         return ResponseEntity.ok("Event deleted successfully!");
     }
 
@@ -170,6 +222,79 @@ public class ClubOfficialController {
         return ResponseEntity.ok(registrationRepository.findAllByClubId(clubId));
     }
 
+    // 5b. QUERY SUBMISSIONS by form answers - Only faculty's own club
+    // e.g. ?eventId=7&status=APPLIED&f.year=2&f.skills=Java&sort=year&dir=asc&page=0&size=25
+    @GetMapping("/submissions/{clubId}/query")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> querySubmissions(@PathVariable String clubId,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String dir,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam Map<String, String> params,
+            @RequestHeader("Authorization") String authHeader) {
+        String facultyClubId = getClubIdFromToken(authHeader);
+
+        if (facultyClubId == null || !facultyClubId.equals(clubId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only view your own club's submissions!");
+        }
+
+        // Form field filters come in as f.<field>=<value>
+        Map<String, String> fields = new LinkedHashMap<>();
+        params.forEach((key, value) -> {
+            if (key.startsWith("f.") && value != null && !value.isBlank()) {
+                fields.put(key.substring(2), value.trim());
+            }
+        });
+
+        try {
+            return ResponseEntity.ok(submissionQueryService.query(clubId, eventId, status, fields, sort, dir, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
+    // 5c. EXPORT SUBMISSIONS as CSV or XLSX (streamed) - Only faculty's own club
+    // Each form-data field becomes its own column
+    @GetMapping("/submissions/{clubId}/export")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> exportSubmissions(@PathVariable String clubId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Long eventId,
+            @RequestParam(required = false) String status,
+            @RequestHeader("Authorization") String authHeader) {
+        String facultyClubId = getClubIdFromToken(authHeader);
+
+        if (facultyClubId == null || !facultyClubId.equals(clubId)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only export your own club's submissions!");
+        }
+
+        SubmissionExportService.Format exportFormat;
+        MediaType contentType;
+        if ("xlsx".equalsIgnoreCase(format)) {
+            exportFormat = SubmissionExportService.Format.XLSX;
+            contentType = MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+        } else if ("csv".equalsIgnoreCase(format)) {
+            exportFormat = SubmissionExportService.Format.CSV;
+            contentType = MediaType.parseMediaType("text/csv; charset=UTF-8");
+        } else {
+            return ResponseEntity.badRequest().body("Error: format must be csv or xlsx");
+        }
+
+        String fileName = "submissions-" + clubId.replaceAll("[^A-Za-z0-9_-]", "_")
+                + (eventId != null ? "-event-" + eventId : "") + "." + exportFormat.name().toLowerCase();
+        StreamingResponseBody body = out -> submissionExportService.export(clubId, eventId, status, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(body);
+    }
+
     // 6. UPDATE STATUS (Approve/Reject) - Only for faculty's own club's
     // registrations
     @PutMapping("/update-status/{regId}")
@@ -200,11 +325,52 @@ public class ClubOfficialController {
                     .body("Error: You can only manage registrations for your own club's events!");
         }
 
-        reg.setStatus(status);
-        registrationRepository.save(reg);
+        // A waitlisted student can only be approved if a seat is free
+        boolean hadSeat = SeatAllocationService.holdsSeat(currentStatus);
+        boolean needsSeat = SeatAllocationService.holdsSeat(status);
+        if (!hadSeat && needsSeat && !seatAllocationService.tryAcquire(reg.getEventId())) {
+            return ResponseEntity.badRequest()
+                    .body("Error: Event is full. Reject a seated registration first to free a seat.");
+        }
+
+        // Conditional update so two concurrent decisions can't both free (or take) the seat
+        if (registrationRepository.updateStatusIfCurrent(regId, currentStatus, status) == 0) {
+            if (!hadSeat && needsSeat) seatAllocationService.release(reg.getEventId());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body("Error: This registration was updated by someone else. Please refresh.");
+        }
+
+        liveUpdateBus.registrationStatusChanged(reg.getEventId(), regId, reg.getUserId(), status);
+        checkInService.statusChanged(reg.getEventId(), regId, status);
+
+        // Rejecting a seated registration hands the seat to the oldest waitlisted one
+        if (hadSeat && !needsSeat) {
+            seatAllocationService.onSeatFreed(reg.getEventId());
+        }
         return ResponseEntity.ok("Status updated to " + status);
     }
 
+    // 6b. BULK UPDATE STATUS - regIds, or a filter (eventId / currentStatus)
+    // Already APPROVED/REJECTED registrations are skipped, not changed
+    @PutMapping("/update-status/bulk")
+    @PreAuthorize("hasRole('FACULTY')")
+    public ResponseEntity<?> updateStatusBulk(@RequestBody BulkStatusRequest request,
+            @RequestHeader("Authorization") String authHeader) {
+        String facultyClubId = getClubIdFromToken(authHeader);
+        if (facultyClubId == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                    .body("Error: You can only manage registrations for your own club's events!");
+        }
+
+        try {
+            return ResponseEntity.ok(bulkStatusService.apply(facultyClubId, request));
+        } catch (SecurityException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
+    }
+
     // 7. GET ALL EVENTS FOR FACULTY'S CLUB
     @GetMapping("/my-events")
     @PreAuthorize("hasRole('FACULTY')")
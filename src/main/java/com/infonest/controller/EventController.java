@@ -1,14 +1,27 @@
 package com.infonest.controller;
 
+import com.infonest.dto.EventPage;
+import com.infonest.dto.TrendingEvent;
 import com.infonest.model.Event;
 import com.infonest.repository.EventRepository;
+import com.infonest.service.EventQueryService;
+import com.infonest.service.EventsRemoved;
+import com.infonest.service.LiveUpdateBus;
+import com.infonest.service.RegistrationDeadlineService;
+import com.infonest.service.SeatAllocationService;
+import com.infonest.service.TrendingEventsService;
+import com.infonest.service.UpcomingEventsCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/events")
@@ -17,12 +30,49 @@ public class EventController {
     @Autowired
     private EventRepository eventRepository;
 
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    @Autowired
+    private TrendingEventsService trendingEventsService;
+
+    @Autowired
+    private RegistrationDeadlineService registrationDeadlineService;
+
+    @Autowired
+    private UpcomingEventsCache upcomingEventsCache;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Autowired
+    private EventQueryService eventQueryService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // 1. PUBLIC: Sabhi users (Guest/Student/Admin) events dekh sakte hain
     @GetMapping
     public List<Event> getAllEvents() {
         return eventRepository.findAll();
     }
 
+    // PUBLIC: Paginated list (visible events only, no description).
+    // Pass nextCursor from the previous response as ?cursor= for the next page.
+    @GetMapping("/page")
+    public ResponseEntity<?> getEventPage(@RequestParam(required = false) String clubId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer limit) {
+        try {
+            EventPage page = eventQueryService.listEvents(clubId, from, to, false, cursor, limit);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+
     // 2. PUBLIC: Kisi specific event ki details dekhne ke liye
     @GetMapping("/{id}")
     public ResponseEntity<Event> getEventById(@PathVariable Long id) {
@@ -36,6 +86,9 @@ public class EventController {
     @PreAuthorize("hasRole('FACULTY')")
     public ResponseEntity<Event> createEvent(@RequestBody Event event) {
         Event savedEvent = eventRepository.save(event);
+        upcomingEventsCache.invalidate();
+        liveUpdateBus.eventChanged(event);
+        registrationDeadlineService.refresh(savedEvent.getEventId());
         return ResponseEntity.ok(savedEvent);
     }
 
@@ -51,16 +104,30 @@ public class EventController {
             existingEvent.setEventTime(eventDetails.getEventTime());
             existingEvent.setDeadline(eventDetails.getDeadline());
             existingEvent.setRegistrationFormLink(eventDetails.getRegistrationFormLink());
-            return ResponseEntity.ok(eventRepository.save(existingEvent));
+            existingEvent.setSeatLimit(eventDetails.getSeatLimit());
+            Event saved = eventRepository.save(existingEvent);
+            upcomingEventsCache.invalidate();
+            liveUpdateBus.eventChanged(existingEvent);
+            seatAllocationService.refresh(id);
+            registrationDeadlineService.refresh(id);
+            return ResponseEntity.ok(saved);
         }).orElse(ResponseEntity.notFound().build());
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<Event>> getUpcomingEvents() {
-        // Return visible events with eventDate >= today, sorted by date ascending
-        // (nearest first)
-        return ResponseEntity
-                .ok(eventRepository.findByHiddenFalseAndEventDateGreaterThanEqualOrderByEventDateAsc(LocalDate.now()));
+    public ResponseEntity<byte[]> getUpcomingEvents() {
+        // Visible events with eventDate >= today, nearest first. Served from the
+        // pre-serialized cache; the DB is only hit after an event change or at midnight.
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(upcomingEventsCache.getJson());
+    }
+
+    // PUBLIC: "Trending now" strip - events with the most registrations in the
+    // last window (default 60 min), ranked in memory; no DB hit per request
+    @GetMapping("/trending")
+    public ResponseEntity<List<TrendingEvent>> getTrendingEvents(@RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(trendingEventsService.top(limit));
     }
 
     // 6. PUBLIC: Get ALL events by clubId (sorted by date, for individual club
@@ -76,6 +143,7 @@ public class EventController {
     @PreAuthorize("hasAnyRole('FACULTY', 'ADMIN')")
     public ResponseEntity<String> deleteEvent(@PathVariable Long id) {
         eventRepository.deleteById(id);
+        eventPublisher.publishEvent(EventsRemoved.deleted(id));
         return ResponseEntity.ok("Event deleted successfully");
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.infonest.controller;
+
+import com.infonest.model.User;
+import com.infonest.repository.UserRepository;
+import com.infonest.service.LiveUpdateBus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/live")
+public class LiveUpdateController {
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    // Server-Sent Events stream of deltas (event changed/deleted, registration added/status changed).
+    // What a client receives is decided by who it is, not by query params:
+    // students get their own registrations, faculty their club's, admins everything.
+    // EventSource can't set headers, so the JWT may also be passed as ?access_token=
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> stream(Authentication authentication) {
+        User user = userRepository.findByEmail(authentication.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: Unknown user");
+        }
+
+        String role = user.getRole() == null ? "" : user.getRole().toUpperCase();
+        boolean admin = "ADMIN".equals(role);
+        String clubId = "FACULTY".equals(role) ? user.getClubId() : null;
+
+        SseEmitter emitter = liveUpdateBus.subscribe(admin, clubId, user.getUserId());
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Error: Too many live connections, please retry");
+        }
+        return ResponseEntity.ok().contentType(MediaType.TEXT_EVENT_STREAM).body(emitter);
+    }
+}
@@ -2,16 +2,28 @@ package com.infonest.controller;
 
 import com.infonest.repository.ScheduleRepository;
 import com.infonest.repository.UserRepository;
+import com.infonest.service.ClashDetectionService;
+import com.infonest.service.RoomOccupancyService;
 import com.infonest.service.ScheduleService;
+import com.infonest.service.StaffLocationService;
+import com.infonest.dto.LocatorStatus;
+import com.infonest.dto.RoomStatus;
+import com.infonest.dto.StaffBoardSnapshot;
 import com.infonest.model.Schedules;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import com.infonest.model.User; // User model ko recognize karne ke liye
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.List;          // List interface ke liye
 // import java.time.DayOfWeek;
@@ -32,10 +44,49 @@ public class ScheduleController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ClashDetectionService clashDetectionService;
+
+    @Autowired
+    private StaffLocationService staffLocationService;
+
+    @Autowired
+    private RoomOccupancyService roomOccupancyService;
+
     @GetMapping("/search/now")
     public ResponseEntity<String> searchNow(@RequestParam String name) {
-        Object result = scheduleService.getRealTimeStatus(name);
-        return ResponseEntity.ok(result.toString());
+        LocatorStatus result = scheduleService.getRealTimeStatusWithExpiry(name);
+        return cacheUntil(result.getValidUntil()).body(result.getMessage());
+    }
+
+    // Staff board: every teacher's current location from one shared snapshot
+    @GetMapping("/search/now/all")
+    public ResponseEntity<StaffBoardSnapshot> searchNowAll() {
+        StaffBoardSnapshot snapshot = staffLocationService.getSnapshot();
+        return cacheUntil(snapshot.getValidUntil()).body(snapshot);
+    }
+
+    // Locator answers hold until the next slot boundary, so polling clients can reuse them
+    private static ResponseEntity.BodyBuilder cacheUntil(LocalDateTime validUntil) {
+        ZonedDateTime expires = validUntil.atZone(ZoneId.systemDefault());
+        long seconds = Math.max(0, Duration.between(ZonedDateTime.now(), expires).getSeconds());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setExpires(expires);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(seconds)))
+                .headers(headers);
+    }
+
+    // Visitors: what is happening in a room right now, and next
+    @GetMapping("/search/room")
+    public ResponseEntity<RoomStatus> searchRoom(@RequestParam String room) {
+        return ResponseEntity.ok(roomOccupancyService.getRoomStatus(room));
+    }
+
+    // Same for every room whose name starts with the given prefix (a block / floor)
+    @GetMapping("/search/block")
+    public ResponseEntity<List<RoomStatus>> searchBlock(@RequestParam String prefix) {
+        return ResponseEntity.ok(roomOccupancyService.getBlockStatus(prefix));
     }
 
     @GetMapping("/cabin")
@@ -47,8 +98,12 @@ public class ScheduleController {
     public ResponseEntity<?> searchAdvanced(@RequestParam String name, @RequestParam String day, @RequestParam String time) {
         try {
             java.time.LocalTime parsedTime = java.time.LocalTime.parse(time);
+            java.time.DayOfWeek parsedDay = ScheduleService.parseDay(day);
+            if (parsedDay == null) {
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid day (e.g. MONDAY)");
+            }
             
-            return repository.findSpecificSlot(name, day, parsedTime)
+            return repository.findSpecificSlot(name, parsedDay, parsedTime)
                     .map(schedule -> ResponseEntity.ok(schedule)) // Returns JSON object
                     .orElse(ResponseEntity.status(HttpStatus.NOT_FOUND).build());
         } catch (Exception e) {
@@ -60,12 +115,13 @@ public ResponseEntity<?> uploadExcel(
     @RequestParam("file") MultipartFile file,
     @RequestParam("email") String email,
     @RequestParam("teacherName") String teacherName,
-    @RequestParam(value = "isUpdate", defaultValue = "false") boolean isUpdate 
+    @RequestParam(value = "isUpdate", defaultValue = "false") boolean isUpdate,
+    @RequestParam(value = "allowClashes", defaultValue = "false") boolean allowClashes
 ) {
     if (file.isEmpty()) return ResponseEntity.badRequest().body(Map.of("message", "File empty"));
 
     try {
-        scheduleService.importExcel(file, email, teacherName, isUpdate);
+        scheduleService.importExcel(file, email, teacherName, isUpdate, allowClashes);
         return ResponseEntity.ok(Map.of("message", isUpdate ? "Updated!" : "Added!"));
     } catch (IllegalArgumentException e) {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("message", e.getMessage()));
@@ -74,11 +130,17 @@ public ResponseEntity<?> uploadExcel(
     }
 }
 
+    // Room / teacher clash report across all timetables and confirmed bookings
+    @GetMapping("/clashes")
+    public ResponseEntity<?> getClashes() {
+        return ResponseEntity.ok(clashDetectionService.findAllClashes());
+    }
+
     // 2. Check Endpoint (Make sure @RequestParam is exactly "email")
     @GetMapping("/teachers/check-schedule")
     public ResponseEntity<?> checkScheduleExists(@RequestParam("email") String email) {
         try {
-            List<Schedules> schedules = repository.findByEmail(email);
+            List<Schedules> schedules = scheduleService.getTeacherSchedule(email);
             return ResponseEntity.ok(Map.of("hasSchedule", !schedules.isEmpty()));
         } catch (Exception e) {
             return ResponseEntity.badRequest().body(Map.of("hasSchedule", false));
@@ -89,7 +151,7 @@ public ResponseEntity<?> uploadExcel(
     @GetMapping("/teachers/schedule-data")
     public ResponseEntity<?> getTeacherScheduleData(@RequestParam("email") String email) {
         // Now it properly searches by EMAIL, not by Name
-        return ResponseEntity.ok(repository.findByEmail(email)); 
+        return ResponseEntity.ok(scheduleService.getTeacherSchedule(email)); 
     }
 
      // 1. Search for teachers to manage
@@ -0,0 +1,30 @@
+package com.infonest.controller;
+
+import com.infonest.service.SearchService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/v1/search")
+public class SearchController {
+
+    @Autowired
+    private SearchService searchService;
+
+    // PUBLIC: Ranked keyword search over visible events and clubs
+    // e.g. /api/v1/search?q=hackathon&type=events&page=0&size=20
+    @GetMapping
+    public ResponseEntity<?> search(@RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        try {
+            return ResponseEntity.ok(searchService.search(q, type, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
+        }
+    }
+}
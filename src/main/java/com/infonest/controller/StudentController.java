@@ -1,13 +1,27 @@
 package com.infonest.controller;
 
+import com.infonest.dto.DashboardRegistration;
+import com.infonest.dto.Recommendation;
 import com.infonest.model.Registration;
+import com.infonest.model.User;
 import com.infonest.repository.RegistrationRepository;
+import com.infonest.repository.UserRepository;
+import com.infonest.service.CheckInService;
+import com.infonest.service.RecommendationService;
+import com.infonest.service.RegistrationDeadlineService;
+import com.infonest.service.RegistrationIngestService;
+import com.infonest.service.StudentDashboardService;
+import com.infonest.service.SubmissionQueryService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import java.util.Map;
-import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -18,27 +32,69 @@ public class StudentController {
     @Autowired
     private RegistrationRepository registrationRepository;
 
+    @Autowired
+    private RegistrationIngestService registrationIngestService;
+
+    @Autowired
+    private SubmissionQueryService submissionQueryService;
+
+    @Autowired
+    private StudentDashboardService studentDashboardService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Autowired
+    private CheckInService checkInService;
+
+    @Autowired
+    private RegistrationDeadlineService registrationDeadlineService;
+
     // API: Event mein register karne ke liye (Updated to allow all roles)
     @PostMapping("/register")
     @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
     public ResponseEntity<Object> registerForEvent(@RequestBody Registration registration) {
-        // CHECK: User ne iss event mein pehle se register kiya hai ya nahi
-        Optional<Registration> existingRegistration = registrationRepository
-                .findByUserIdAndEventId(registration.getUserId(), registration.getEventId());
+        if (registration.getUserId() == null || registration.getEventId() == null) {
+            return ResponseEntity.badRequest().body(Map.of("error", "userId and eventId are required"));
+        }
+
+        // Deadline nikal gayi to registration band (in-memory check, no query)
+        if (registrationDeadlineService.isClosed(registration.getEventId())) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Registration for this event has closed"));
+        }
 
-        if (existingRegistration.isPresent()) {
+        // Batched INSERT ... ON CONFLICT DO NOTHING: the unique (user_id, event_id) index
+        // decides duplicates, so bursts can't slip a second row in between check and save
+        RegistrationIngestService.Result result;
+        try {
+            result = registrationIngestService.submit(registration.getUserId(), registration.getEventId())
+                    .get(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Registration interrupted, please retry"));
+        } catch (ExecutionException | TimeoutException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .body(Map.of("error", "Registration is busy, please retry"));
+        }
+
+        if (result.isDuplicate()) {
             // Already registered - return error
             return ResponseEntity.badRequest()
                     .body(Map.of("error", "You have already registered for this event!"));
         }
 
-        registration.setStatus("APPLIED"); // Default status
-        registration.setSubmissionDate(LocalDateTime.now()); // Set current time
-
-        registration.setFormData(null); // Shuruat mein null
-
         // Row save hone ke baad hume pura object (with regId) wapas bhejna hai
-        Registration saved = registrationRepository.save(registration);
+        Registration saved = new Registration();
+        saved.setRegId(result.getRegId());
+        saved.setEventId(registration.getEventId());
+        saved.setUserId(registration.getUserId());
+        saved.setStatus(result.getStatus()); // APPLIED, or WAITLISTED if the event is full
+        saved.setFormData(null); // Shuruat mein null
+        saved.setSubmissionDate(result.getSubmissionDate());
 
         // String ki jagah 'saved' object bhej rahe hain taaki frontend ko regId mil
         // sake
@@ -49,7 +105,13 @@ public class StudentController {
     @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
     public ResponseEntity<String> updateFormData(@RequestBody Map<String, Object> payload) {
         Long regId = Long.valueOf(payload.get("regId").toString());
-        String jsonData = payload.get("formData").toString();
+        // Stored as jsonb, so it has to be a real JSON object (not Map.toString())
+        String jsonData;
+        try {
+            jsonData = submissionQueryService.normalizeFormData(payload.get("formData"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        }
 
         Registration existingReg = registrationRepository.findById(regId)
                 .orElseThrow(() -> new RuntimeException("Registration not found"));
@@ -69,4 +131,48 @@ public class StudentController {
         // Updated method name in repository to match your 'user_id' column
         return registrationRepository.findByUserId(userId);
     }
+
+    // API: Dashboard ke liye registrations + event details + club name, ek hi query mein.
+    // User token se aata hai, path se nahi - so nobody can read another user's list
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<?> getMyDashboard(Authentication authentication) {
+        User user = userRepository.findByEmail(authentication.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: Unknown user");
+        }
+        List<DashboardRegistration> registrations = studentDashboardService.registrationsFor(user.getUserId());
+        return ResponseEntity.ok(registrations);
+    }
+
+    // API: "Jo students aapke events mein gaye, wo in events mein bhi gaye" - upcoming
+    // events ranked by co-registrations with the logged-in user's events
+    @GetMapping("/recommendations")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<?> getRecommendations(@RequestParam(required = false) Integer limit,
+            Authentication authentication) {
+        User user = userRepository.findByEmail(authentication.getName()).orElse(null);
+        if (user == null) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body("Error: Unknown user");
+        }
+        List<Recommendation> recommendations = recommendationService.forUser(user.getUserId(), limit);
+        return ResponseEntity.ok(recommendations);
+    }
+
+    // API: Event entry ke liye signed check-in code (show as QR at the door).
+    // Only the registration's owner gets it, and only once it is APPROVED
+    @GetMapping("/checkin-code/{regId}")
+    @PreAuthorize("hasAnyRole('STUDENT', 'FACULTY', 'ADMIN')")
+    public ResponseEntity<?> getCheckInCode(@PathVariable Long regId, Authentication authentication) {
+        User user = userRepository.findByEmail(authentication.getName()).orElse(null);
+        Registration reg = registrationRepository.findById(regId).orElse(null);
+        if (user == null || reg == null || !user.getUserId().equals(reg.getUserId())) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "Registration not found"));
+        }
+        if (!"APPROVED".equals(reg.getStatus())) {
+            return ResponseEntity.badRequest().body(Map.of("error", "Check-in code is available once your registration is approved"));
+        }
+        return ResponseEntity.ok(Map.of("regId", regId, "eventId", reg.getEventId(),
+                "code", checkInService.codeFor(regId, reg.getEventId())));
+    }
 }
\ No newline at end of file
@@ -7,6 +7,8 @@ import com.infonest.model.User;
 import com.infonest.repository.VenueRepository;
 import com.infonest.repository.VenueBookingRepository;
 import com.infonest.repository.UserRepository;
+import com.infonest.service.RoomOccupancyService;
+import com.infonest.service.StaffLocationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,6 +37,12 @@ public class VenueController {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Autowired
+    private StaffLocationService staffLocationService;
+
+    @Autowired
+    private RoomOccupancyService roomOccupancyService;
+
     // ==================== Helper ====================
     private String getEmailFromToken(String authHeader) {
         String token = authHeader.replace("Bearer ", "");
@@ -226,6 +234,8 @@ public class VenueController {
             booking.setCreatedAt(LocalDateTime.now());
 
             venueBookingRepository.save(booking);
+            staffLocationService.invalidate();
+            roomOccupancyService.addBooking(booking);
 
             return ResponseEntity.ok(Map.of(
                     "message", "✅ " + venue.getName() + " booked successfully!",
@@ -280,6 +290,8 @@ public class VenueController {
         }
 
         venueBookingRepository.delete(booking);
+        staffLocationService.invalidate();
+        roomOccupancyService.removeBooking(bookingId);
         return ResponseEntity.ok("Booking cancelled and removed successfully!");
     }
 
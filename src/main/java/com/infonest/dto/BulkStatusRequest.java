@@ -0,0 +1,14 @@
+package com.infonest.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+// Either regIds, or a filter (eventId and/or currentStatus) selecting the registrations
+@Data
+public class BulkStatusRequest {
+    private String status; // APPROVED or REJECTED
+    private List<Long> regIds;
+    private Long eventId;
+    private String currentStatus;
+}
@@ -0,0 +1,17 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusResult {
+    private String status;
+    private List<Long> updated;
+    private Map<Long, String> skipped; // regId -> reason
+}
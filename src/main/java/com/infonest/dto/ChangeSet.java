@@ -0,0 +1,42 @@
+package com.infonest.dto;
+
+import com.infonest.model.Club;
+import com.infonest.model.Event;
+import com.infonest.model.Registration;
+import com.infonest.model.Venue;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ChangeSet {
+    // Pass back as ?since= on the next call
+    private LocalDateTime watermark;
+    // Set when since is older than the tombstone log: reload everything, then sync from watermark
+    private boolean fullResync;
+    // More changes are waiting; call again right away with the new watermark
+    private boolean hasMore;
+    private List<Event> events = new ArrayList<>();
+    private List<Club> clubs = new ArrayList<>();
+    private List<Venue> venues = new ArrayList<>();
+    private List<Registration> registrations = new ArrayList<>();
+    private List<Deletion> deleted = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    public static class Deletion {
+        private String entity;
+        private String id;
+        private LocalDateTime deletedAt;
+
+        public Deletion(String entity, String id, LocalDateTime deletedAt) {
+            this.entity = entity;
+            this.id = id;
+            this.deletedAt = deletedAt;
+        }
+    }
+}
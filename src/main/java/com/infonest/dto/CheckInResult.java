@@ -0,0 +1,18 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Outcome of one door scan, shown to the volunteer
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CheckInResult {
+    // CHECKED_IN, ALREADY_CHECKED_IN, NOT_APPROVED, INVALID_CODE, WRONG_EVENT, NOT_OPEN
+    private String result;
+    private Long regId;
+    private String attendeeName;
+    private int checkedIn;
+    private int approved;
+}
@@ -0,0 +1,28 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+// A student's registration with the event and club fields the dashboard shows
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardRegistration {
+    private Long regId;
+    private String status;
+    private LocalDateTime submissionDate;
+    private String formData;
+    private Long eventId;
+    private String eventName;
+    private LocalDate eventDate;
+    private LocalTime eventTime;
+    private LocalDate deadline;
+    private String venueId;
+    private String clubId;
+    private String clubName;
+}
@@ -0,0 +1,17 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+// One page of events; pass nextCursor back as ?cursor= to get the following page
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventPage {
+    private List<EventSummary> items;
+    private String nextCursor; // null on the last page
+    private boolean hasMore;
+}
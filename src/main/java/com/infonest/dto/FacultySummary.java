@@ -0,0 +1,16 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Public-safe view of a club official (no password hash / reset token)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultySummary {
+    private Long userId;
+    private String firstName;
+    private String lastName;
+    private String email;
+}
@@ -0,0 +1,22 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// One delta pushed over /api/v1/live/stream; fields not relevant to the type are null
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LiveUpdate {
+    private long seq;
+    private String type; // EVENT_CHANGED, EVENT_DELETED, REGISTRATION_ADDED, REGISTRATION_STATUS_CHANGED
+    private Long eventId;
+    private String clubId;
+    private Long regId;
+    private Long userId;
+    private String status;
+    private LocalDateTime at;
+}
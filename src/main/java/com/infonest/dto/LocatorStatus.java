@@ -0,0 +1,15 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LocatorStatus {
+    private String message;
+    private LocalDateTime validUntil; // Next slot boundary: class/booking start or end, 9:00, 17:00, midnight
+}
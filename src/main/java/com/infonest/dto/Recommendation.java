@@ -0,0 +1,20 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// "Students who registered for your events also registered for this one"
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Recommendation {
+    private Long eventId;
+    private String eventName;
+    private String clubId;
+    private LocalDate eventDate;
+    // Summed co-registration count with the user's own events
+    private int score;
+}
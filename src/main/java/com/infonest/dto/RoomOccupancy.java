@@ -0,0 +1,22 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomOccupancy {
+    private String room;
+    private String source; // SCHEDULE (weekly timetable) or BOOKING (one-off venue booking)
+    private Long id;
+    private String teacher;
+    private String label; // Subject + batch, or booking purpose / event name
+    private LocalDate date; // Only for bookings
+    private LocalTime startTime;
+    private LocalTime endTime;
+}
@@ -0,0 +1,16 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RoomStatus {
+    private String room;
+    private List<RoomOccupancy> current;
+    private List<RoomOccupancy> upcoming; // Rest of today, nearest first
+}
@@ -0,0 +1,34 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduleClash {
+
+    private String kind; // ROOM (two slots in one room) or TEACHER (one teacher in two places)
+    private String resource; // Room number or teacher email
+    private String dayOfWeek;
+    private LocalDate date; // Only set when a venue booking is involved
+    private Slot first;
+    private Slot second;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Slot {
+        private String source; // SCHEDULE or BOOKING
+        private Long id; // Schedule id / booking id (null for rows not saved yet)
+        private String teacher;
+        private String room;
+        private String label; // Subject + batch, or booking purpose
+        private LocalTime startTime;
+        private LocalTime endTime;
+    }
+}
@@ -0,0 +1,21 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// One search result; snippet is HTML-escaped text with matches wrapped in <mark>
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchHit {
+    private String type; // EVENT or CLUB
+    private String id;   // eventId or clubId
+    private String title;
+    private String clubId;
+    private LocalDate eventDate;
+    private double rank;
+    private String snippet;
+}
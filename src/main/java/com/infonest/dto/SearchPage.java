@@ -0,0 +1,17 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchPage {
+    private List<SearchHit> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
@@ -0,0 +1,17 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StaffBoardSnapshot {
+    private LocalDateTime generatedAt;
+    private LocalDateTime validUntil; // Snapshot is rebuilt at the next slot boundary
+    private List<StaffLocation> staff;
+}
@@ -0,0 +1,19 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StaffLocation {
+    private String email;
+    private String teacherName;
+    private String status; // BOOKING, CLASS, CABIN, CLOSED, HOLIDAY
+    private String location; // Venue name, room number or cabin
+    private String message; // Same text the single-teacher locator returns
+    private LocalTime validUntil; // Next time this teacher's status can change (null = end of day)
+}
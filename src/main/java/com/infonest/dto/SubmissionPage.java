@@ -0,0 +1,18 @@
+package com.infonest.dto;
+
+import com.infonest.model.Registration;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SubmissionPage {
+    private List<Registration> items;
+    private int page;
+    private int size;
+    private boolean hasMore;
+}
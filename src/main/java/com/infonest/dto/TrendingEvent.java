@@ -0,0 +1,20 @@
+package com.infonest.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// One entry of the "trending now" strip: registrations in the last window
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrendingEvent {
+    private Long eventId;
+    private String eventName;
+    private String clubId;
+    private LocalDate eventDate;
+    private int registrations;
+    private int windowMinutes;
+}
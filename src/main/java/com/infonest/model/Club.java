@@ -1,12 +1,15 @@
 package com.infonest.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "clubs")
+@Table(name = "clubs", indexes = @Index(name = "idx_clubs_updated_at", columnList = "updated_at"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -21,4 +24,14 @@ public class Club {
 
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
+
+    public Club(String clubId, String clubName, String description) {
+        this.clubId = clubId;
+        this.clubName = clubName;
+        this.description = description;
+    }
 }
\ No newline at end of file
@@ -1,18 +1,29 @@
 package com.infonest.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
 @Data
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        // Keyset pagination: ORDER BY event_date, event_id
+        @Index(name = "idx_events_date_id", columnList = "event_date, event_id"),
+        @Index(name = "idx_events_club_date_id", columnList = "club_id, event_date, event_id"),
+        @Index(name = "idx_events_updated_at", columnList = "updated_at"),
+        // Deadline job: still-open events whose deadline has passed
+        @Index(name = "idx_events_closed_deadline", columnList = "registration_closed, deadline")
+})
 public class Event {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
     private Long eventId;
 
+    @Column(name = "club_id")
     private String clubId;
     private String venueId;
     private String eventName;
@@ -20,6 +31,7 @@ public class Event {
     @Column(columnDefinition = "TEXT")
     private String description;
 
+    @Column(name = "event_date")
     private LocalDate eventDate;
     private LocalTime eventTime;
     private LocalDate deadline;
@@ -27,7 +39,25 @@ public class Event {
     // Isme URL ya "club_form_link" store hoga
     private String registrationFormLink;
 
+    // Max registrations holding a seat; null = use the venue's capacity (if any)
+    private Integer seatLimit;
+
     // Admin can hide events from public view
     @Column(nullable = false)
     private Boolean hidden = false;
+
+    // Denormalized total, kept by RegistrationCounterService
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "registration_count", insertable = false, updatable = false, columnDefinition = "bigint default 0")
+    private Long registrationCount;
+
+    // Set by RegistrationDeadlineService once the deadline passes
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "registration_closed", insertable = false, updatable = false, columnDefinition = "boolean default false")
+    private Boolean registrationClosed;
+
+    // Set by the touch trigger in schema-postgres.sql
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
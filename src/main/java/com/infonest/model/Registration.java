@@ -1,26 +1,51 @@
 package com.infonest.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 
 @Entity
 @Data
-@Table(name = "registrations")
+// Unique (user_id, event_id) index is created by schema-postgres.sql after de-duplicating old rows
+@Table(name = "registrations", indexes = {
+        @Index(name = "idx_registrations_updated_at", columnList = "updated_at"),
+        // Per-event lookups (seat counts, waitlist, reminders, check-in)
+        @Index(name = "idx_registrations_event_status", columnList = "event_id, status")
+})
 public class Registration {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long regId;
 
+    @Column(name = "event_id")
     private Long eventId;
     
     // User table ki ID (student/faculty/admin)
     private Long userId; 
     
-    private String status="APPLIED"; // PENDING, APPROVED, REJECTED
+    private String status="APPLIED"; // APPLIED, WAITLISTED, APPROVED, REJECTED
 
-    @Column(columnDefinition = "TEXT")
-    private String formData; // JSON string for recruitment details
+    // JSON object for recruitment details, stored as jsonb (GIN-indexed for submission filters)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private String formData;
     
     private LocalDateTime submissionDate;
+
+    // Door check-in time (CheckInService)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "checked_in_at", insertable = false, updatable = false)
+    private LocalDateTime checkedInAt;
+
+    // When the event reminder went out (EventReminderService)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "reminder_sent_at", insertable = false, updatable = false)
+    private LocalDateTime reminderSentAt;
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
\ No newline at end of file
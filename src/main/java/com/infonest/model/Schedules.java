@@ -2,10 +2,16 @@ package com.infonest.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 
 @Entity
-@Table(name = "schedules")
+@Table(name = "schedules", indexes = {
+        // Teacher lookups (import/delete/check by email, "where is X on day D")
+        @Index(name = "idx_schedules_email_day_start", columnList = "email, day_of_week, start_time"),
+        // Room lookups (occupancy, clash checks)
+        @Index(name = "idx_schedules_room_day_start", columnList = "room_no, day_of_week, start_time")
+})
 @Data
 public class Schedules {
     @Id
@@ -15,15 +21,26 @@ public class Schedules {
     private String teacherName;
     private String subject;
     private String batchName;
+
+    @Column(name = "room_no")
     private String roomNo;
-    private String dayOfWeek;
+
+    // Stored as the enum name (MONDAY ... SUNDAY) so equality hits the index
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", length = 9)
+    private DayOfWeek dayOfWeek;
+
+    @Column(name = "start_time")
     private LocalTime startTime;
+
     private LocalTime endTime;
     private String documentUrl;
     private String sittingCabin; // Added for the new requirement
-    // Schedules.java mein add karein
+
+    // Always stored trimmed + lower-case (see ScheduleService.normalizeEmail)
+    @Column(name = "email")
     private String email;
 
     public String getEmail() { return email; }
     public void setEmail(String email) { this.email = email; }
-}
\ No newline at end of file
+}
@@ -1,11 +1,14 @@
 package com.infonest.model;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Data
-@Table(name = "venues")
+@Table(name = "venues", indexes = @Index(name = "idx_venues_updated_at", columnList = "updated_at"))
 public class Venue {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -24,4 +27,8 @@ public class Venue {
 
     @Column(nullable = false)
     private Boolean isActive = true; // Soft delete / disable venue
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "updated_at", insertable = false, updatable = false)
+    private LocalDateTime updatedAt;
 }
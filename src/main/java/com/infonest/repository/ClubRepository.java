@@ -1,12 +1,17 @@
 package com.infonest.repository;
 
 import com.infonest.model.Club;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface ClubRepository extends JpaRepository<Club, String> {
     // Club names ko A-Z order mein lane ke liye
     List<Club> findAllByOrderByClubNameAsc();
+
+    // Change feed: rows modified at or after the watermark, oldest first
+    List<Club> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscClubIdAsc(LocalDateTime since, Pageable pageable);
 }
\ No newline at end of file
@@ -1,9 +1,15 @@
 package com.infonest.repository;
 
 import com.infonest.model.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -25,4 +31,23 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     // Upcoming events including today
     List<Event> findByHiddenFalseAndEventDateGreaterThanEqualOrderByEventDateAsc(LocalDate date);
+
+    // Change feed: rows modified at or after the watermark, oldest first
+    List<Event> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscEventIdAsc(LocalDateTime since, Pageable pageable);
+
+    // Registration counter column (see RegistrationCounterService)
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE events SET registration_count = COALESCE(registration_count, 0) + :delta " +
+            "WHERE event_id = :eventId", nativeQuery = true)
+    int addToRegistrationCount(@Param("eventId") Long eventId, @Param("delta") long delta);
+
+    // Re-derive the counter from the registrations table wherever it drifted
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE events e SET registration_count = c.cnt FROM (" +
+            "SELECT ev.event_id, COUNT(r.reg_id) AS cnt FROM events ev " +
+            "LEFT JOIN registrations r ON r.event_id = ev.event_id GROUP BY ev.event_id) c " +
+            "WHERE e.event_id = c.event_id AND e.registration_count IS DISTINCT FROM c.cnt", nativeQuery = true)
+    int reconcileRegistrationCounts();
 }
@@ -1,9 +1,13 @@
 package com.infonest.repository;
 
 import com.infonest.model.Registration;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,10 +20,34 @@ public interface RegistrationRepository extends JpaRepository<Registration, Long
 
     long countByEventId(Long eventId);
 
+    // Registrations currently holding a seat
+    long countByEventIdAndStatusNotIn(Long eventId, List<String> statuses);
+
+    // Oldest waitlisted registration is promoted first (submissionDate moves when the form is filled)
+    Optional<Registration> findFirstByEventIdAndStatusOrderByRegIdAsc(Long eventId, String status);
+
+    // Only changes the row if nobody else changed its status in the meantime
+    @Modifying
+    @Transactional
+    @Query("UPDATE Registration r SET r.status = :newStatus WHERE r.regId = :regId AND r.status = :expected")
+    int updateStatusIfCurrent(@Param("regId") Long regId, @Param("expected") String expected,
+                              @Param("newStatus") String newStatus);
+
     // Faculty ko event ke applicants dikhane ke liye
     List<Registration> findByEventId(Long eventId);
 
     @Query("SELECT r FROM Registration r WHERE r.eventId IN (SELECT e.eventId FROM Event e WHERE e.clubId = :clubId)")
     List<Registration> findAllByClubId(@Param("clubId") String clubId);
 
+    // Change feed (admin / student / faculty scopes): modified at or after the watermark, oldest first
+    List<Registration> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscRegIdAsc(LocalDateTime since, Pageable pageable);
+
+    List<Registration> findByUserIdAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAscRegIdAsc(Long userId,
+            LocalDateTime since, Pageable pageable);
+
+    @Query("SELECT r FROM Registration r WHERE r.updatedAt >= :since AND r.eventId IN "
+            + "(SELECT e.eventId FROM Event e WHERE e.clubId = :clubId) ORDER BY r.updatedAt, r.regId")
+    List<Registration> findClubChangesSince(@Param("clubId") String clubId, @Param("since") LocalDateTime since,
+            Pageable pageable);
+
 }
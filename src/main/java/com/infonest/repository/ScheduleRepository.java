@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.Optional;
 import java.util.List;
@@ -20,7 +21,7 @@ public interface ScheduleRepository extends JpaRepository<Schedules, Long> {
        "AND s.dayOfWeek = :day " +
        "AND :time BETWEEN s.startTime AND s.endTime")
 Optional<Schedules> findCurrentLocation(@Param("name") String name, 
-                                        @Param("day") String day, 
+                                        @Param("day") DayOfWeek day, 
                                         @Param("time") LocalTime time);
 
 // Also add this to help find the sitting cabin regardless of the day
@@ -32,23 +33,29 @@ List<String> findCabinByEmail(@Param("email") String email);
    // src/main/java/com/infonest/repository/ScheduleRepository.java
 
 // Replace the email-specific section with this:
+// Emails are stored normalized (trim + lower-case): pass ScheduleService.normalizeEmail(...)
+// so these stay plain equality lookups on idx_schedules_email_day_start
 List<Schedules> findByEmail(String email);
 
 @Modifying
 @Transactional
-@Query("DELETE FROM Schedules s WHERE TRIM(LOWER(s.email)) = TRIM(LOWER(:email))")
+@Query("DELETE FROM Schedules s WHERE s.email = :email")
 void deleteByEmail(@Param("email") String email);
 
 @Query("SELECT DISTINCT s.sittingCabin FROM Schedules s WHERE s.teacherName ILIKE %:name%")
 Optional<String> findSittingCabin(@Param("name") String name);
 
+// All of a teacher's slots for one day (locator evaluates them in memory)
+@Query("SELECT s FROM Schedules s WHERE s.teacherName ILIKE %:name% AND s.dayOfWeek = :day")
+List<Schedules> findDaySlots(@Param("name") String name, @Param("day") DayOfWeek day);
+
 // Fix the advanced search query logic
 @Query("SELECT s FROM Schedules s WHERE s.teacherName ILIKE %:name% " +
-       "AND UPPER(s.dayOfWeek) = UPPER(:day) " +
+       "AND s.dayOfWeek = :day " +
        "AND :time BETWEEN s.startTime AND s.endTime")
 Optional<Schedules> findSpecificSlot(
     @Param("name") String name, 
-    @Param("day") String day, 
+    @Param("day") DayOfWeek day, 
     @Param("time") java.time.LocalTime time
 );
 }
@@ -1,5 +1,6 @@
 package com.infonest.repository;
 
+import com.infonest.dto.FacultySummary;
 import com.infonest.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +15,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     List<User> findByClubId(String clubId);
 
+    // Public club page: only name/email columns, never the password hash
+    @Query("SELECT new com.infonest.dto.FacultySummary(u.userId, u.firstName, u.lastName, u.email) " +
+            "FROM User u WHERE u.clubId = :clubId")
+    List<FacultySummary> findFacultySummaryByClubId(@Param("clubId") String clubId);
+
     List<User> findByRole(String role); // For getting all faculty
 
    @Query("SELECT u FROM User u WHERE u.role NOT IN ('STUDENT', 'OFFICE') AND (" +
@@ -44,4 +44,20 @@ public interface VenueBookingRepository extends JpaRepository<VenueBooking, Long
             @Param("teacherName") String teacherName,
             @Param("date") LocalDate date,
             @Param("currentTime") LocalTime currentTime);
+
+    // All confirmed bookings with their venue in one query (clash detection / snapshots)
+    @Query("SELECT vb FROM VenueBooking vb JOIN FETCH vb.venue WHERE vb.status = 'CONFIRMED'")
+    List<VenueBooking> findAllConfirmedWithVenue();
+
+    // Confirmed bookings of one day with their venue (staff board)
+    @Query("SELECT vb FROM VenueBooking vb JOIN FETCH vb.venue WHERE vb.status = 'CONFIRMED' AND vb.bookingDate = :date")
+    List<VenueBooking> findConfirmedWithVenueByDate(@Param("date") LocalDate date);
+
+    // All of a teacher's confirmed bookings for one day (locator evaluates them in memory)
+    @Query("SELECT vb FROM VenueBooking vb JOIN FETCH vb.venue WHERE vb.bookedByName ILIKE %:teacherName% " +
+            "AND vb.bookingDate = :date " +
+            "AND vb.status = 'CONFIRMED'")
+    List<VenueBooking> findDayBookingsByTeacher(
+            @Param("teacherName") String teacherName,
+            @Param("date") LocalDate date);
 }
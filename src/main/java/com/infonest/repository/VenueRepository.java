@@ -1,9 +1,12 @@
 package com.infonest.repository;
 
 import com.infonest.model.Venue;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface VenueRepository extends JpaRepository<Venue, Long> {
@@ -19,4 +22,10 @@ public interface VenueRepository extends JpaRepository<Venue, Long> {
 
     // Get active venues by type with capacity >= required
     List<Venue> findByTypeAndCapacityGreaterThanEqualAndIsActiveTrue(String type, Integer capacity);
+
+    // Events store their venue as free text, sometimes the name instead of the id
+    Optional<Venue> findFirstByNameIgnoreCase(String name);
+
+    // Change feed: rows modified at or after the watermark, oldest first
+    List<Venue> findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscVenueIdAsc(LocalDateTime since, Pageable pageable);
 }
@@ -0,0 +1,216 @@
+package com.infonest.service;
+
+import com.infonest.dto.EventPage;
+import com.infonest.dto.EventSummary;
+import com.infonest.dto.SubmissionPage;
+import com.infonest.model.Registration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Moves finished events (event_date older than infonest.archive.after-days) and
+ * their registrations into events_archive / registrations_archive. Each batch is
+ * one statement (select, delete and insert chained as CTEs), so a batch is
+ * moved entirely or not at all and no row is ever in both tiers. The archive is
+ * read-only and served by the methods below.
+ *
+ * Moves don't write change-feed tombstones (infonest.archiving is set for the
+ * batch's transaction): the feed carries only ids, so a first run would hand
+ * every client one deletion per archived registration. Sync clients keep the
+ * long-past events they already had; the archive endpoints are their source now.
+ */
+@Service
+public class ArchiveService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchiveService.class);
+
+    public static final int DEFAULT_SIZE = 25;
+    public static final int MAX_SIZE = 200;
+
+    // Keeps a nightly run from holding the tables for too long after a long pause
+    private static final int MAX_BATCHES_PER_RUN = 200;
+
+    private static final String EVENT_COLUMNS = "event_id, club_id, venue_id, event_name, description, event_date, "
+            + "event_time, deadline, registration_form_link, seat_limit, hidden, registration_count, "
+            + "registration_closed, updated_at";
+    private static final String REGISTRATION_COLUMNS = "reg_id, event_id, user_id, status, form_data, submission_date, "
+            + "checked_in_at, reminder_sent_at, updated_at";
+
+    private static final String MOVE_BATCH = "WITH batch AS ("
+            + "SELECT event_id FROM events WHERE event_date < ? ORDER BY event_date, event_id LIMIT ? "
+            + "FOR UPDATE SKIP LOCKED), "
+            + "moved_registrations AS (DELETE FROM registrations r USING batch b WHERE r.event_id = b.event_id "
+            + "RETURNING r.*), "
+            + "archived_registrations AS (INSERT INTO registrations_archive (" + REGISTRATION_COLUMNS + ") "
+            + "SELECT " + REGISTRATION_COLUMNS + " FROM moved_registrations), "
+            + "moved_events AS (DELETE FROM events e USING batch b WHERE e.event_id = b.event_id RETURNING e.*) "
+            + "INSERT INTO events_archive (" + EVENT_COLUMNS + ") "
+            + "SELECT " + EVENT_COLUMNS + " FROM moved_events RETURNING event_id";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RegistrationCounterService registrationCounterService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${infonest.archive.after-days:365}")
+    private int afterDays;
+
+    @Value("${infonest.archive.batch-size:500}")
+    private int batchSize;
+
+    // ==================== ARCHIVAL ====================
+
+    /** @return number of events moved */
+    public synchronized int archiveOldEvents() {
+        // Counter deltas still in memory belong in the row before it moves
+        registrationCounterService.flush();
+
+        Date cutoff = Date.valueOf(LocalDate.now().minusDays(afterDays));
+        Set<Long> archived = new HashSet<>();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            // Transaction-local flag read by infonest_record_tombstone (schema-postgres.sql)
+            List<Long> moved = tx.execute(s -> {
+                jdbcTemplate.queryForObject("SELECT set_config('infonest.archiving', 'on', true)", String.class);
+                return jdbcTemplate.queryForList(MOVE_BATCH, Long.class, cutoff, batchSize);
+            });
+            archived.addAll(moved);
+            if (moved.size() < batchSize) break;
+        }
+        if (!archived.isEmpty()) {
+            eventPublisher.publishEvent(EventsRemoved.archived(archived));
+            log.info("Archived {} events older than {}", archived.size(), cutoff);
+        }
+        return archived.size();
+    }
+
+    // ==================== READ-ONLY HISTORY ====================
+
+    /**
+     * Archived events, newest first, keyset-paged like the live list.
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public EventPage listEvents(String clubId, boolean includeHidden, String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_SIZE : Math.min(limit, MAX_SIZE);
+        StringBuilder sql = new StringBuilder("SELECT event_id, club_id, venue_id, event_name, event_date, event_time, "
+                + "deadline, registration_form_link, hidden, seat_limit, registration_count FROM events_archive WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (clubId != null && !clubId.isBlank()) {
+            sql.append(" AND club_id = ?");
+            args.add(clubId);
+        }
+        if (!includeHidden) {
+            sql.append(" AND hidden = false");
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            EventQueryService.Key before = EventQueryService.decodeCursor(cursor);
+            if (before.date == null) throw new IllegalArgumentException("Invalid cursor");
+            sql.append(" AND (event_date, event_id) < (?, ?)");
+            args.add(Date.valueOf(before.date));
+            args.add(before.id);
+        }
+        // One extra row tells us whether another page exists
+        sql.append(" ORDER BY event_date DESC, event_id DESC LIMIT ?");
+        args.add(pageSize + 1);
+
+        List<EventSummary> rows = jdbcTemplate.query(sql.toString(), (rs, i) -> {
+            Date date = rs.getDate("event_date");
+            Time time = rs.getTime("event_time");
+            Date deadline = rs.getDate("deadline");
+            return new EventSummary(
+                    rs.getLong("event_id"),
+                    rs.getString("club_id"),
+                    rs.getString("venue_id"),
+                    rs.getString("event_name"),
+                    date != null ? date.toLocalDate() : null,
+                    time != null ? time.toLocalTime() : null,
+                    deadline != null ? deadline.toLocalDate() : null,
+                    rs.getString("registration_form_link"),
+                    rs.getBoolean("hidden"),
+                    (Integer) rs.getObject("seat_limit"),
+                    rs.getLong("registration_count"));
+        }, args.toArray());
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            EventSummary last = rows.get(rows.size() - 1);
+            nextCursor = EventQueryService.encodeCursor(last.getEventDate(), last.getEventId());
+        }
+        return new EventPage(rows, nextCursor, hasMore);
+    }
+
+    // A club's archived submissions, optionally for one event
+    public SubmissionPage clubSubmissions(String clubId, Long eventId, Integer page, Integer size) {
+        int pageNo = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+
+        StringBuilder sql = new StringBuilder("SELECT r.reg_id, r.event_id, r.user_id, r.status, "
+                + "CAST(r.form_data AS text) AS form_data, r.submission_date, r.checked_in_at "
+                + "FROM registrations_archive r JOIN events_archive e ON e.event_id = r.event_id WHERE e.club_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(clubId);
+        if (eventId != null) {
+            sql.append(" AND r.event_id = ?");
+            args.add(eventId);
+        }
+        sql.append(" ORDER BY r.event_id DESC, r.reg_id LIMIT ? OFFSET ?");
+        args.add(pageSize + 1);
+        args.add((long) pageNo * pageSize);
+
+        List<Registration> rows = jdbcTemplate.query(sql.toString(), (rs, i) -> toRegistration(rs), args.toArray());
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+        return new SubmissionPage(rows, pageNo, pageSize, hasMore);
+    }
+
+    public List<Registration> userRegistrations(Long userId) {
+        return jdbcTemplate.query("SELECT reg_id, event_id, user_id, status, CAST(form_data AS text) AS form_data, "
+                + "submission_date, checked_in_at FROM registrations_archive WHERE user_id = ? ORDER BY reg_id DESC",
+                (rs, i) -> toRegistration(rs), userId);
+    }
+
+    private static Registration toRegistration(ResultSet rs) throws SQLException {
+        Registration r = new Registration();
+        r.setRegId(rs.getLong("reg_id"));
+        r.setEventId(rs.getLong("event_id"));
+        r.setUserId(rs.getLong("user_id"));
+        r.setStatus(rs.getString("status"));
+        r.setFormData(rs.getString("form_data"));
+        Timestamp submitted = rs.getTimestamp("submission_date");
+        r.setSubmissionDate(submitted != null ? submitted.toLocalDateTime() : null);
+        Timestamp checkedIn = rs.getTimestamp("checked_in_at");
+        r.setCheckedInAt(checkedIn != null ? checkedIn.toLocalDateTime() : null);
+        return r;
+    }
+}
@@ -0,0 +1,183 @@
+package com.infonest.service;
+
+import com.infonest.dto.BulkStatusRequest;
+import com.infonest.dto.BulkStatusResult;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Approve/reject many registrations at once: one joined query to check club
+ * ownership and current status, one UPDATE for the whole set. Finalized
+ * decisions (APPROVED/REJECTED) are never changed, same as the single-row endpoint;
+ * the UPDATE only touches rows whose status is still the one read, so a concurrent
+ * decision or waitlist promotion is never overwritten.
+ */
+@Service
+public class BulkStatusService {
+
+    public static final int MAX_BATCH = 5000;
+
+    private static final List<String> ALLOWED = List.of("APPROVED", "REJECTED");
+    private static final List<String> FINAL = List.of("APPROVED", "REJECTED");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Autowired
+    private CheckInService checkInService;
+
+    /**
+     * @throws IllegalArgumentException on a bad status / empty or oversized selection
+     * @throws SecurityException if any listed registration belongs to another club
+     */
+    public BulkStatusResult apply(String clubId, BulkStatusRequest request) {
+        String newStatus = request.getStatus() == null ? null : request.getStatus().trim().toUpperCase();
+        if (!ALLOWED.contains(newStatus)) {
+            throw new IllegalArgumentException("status must be APPROVED or REJECTED");
+        }
+
+        Map<Long, Candidate> candidates = loadCandidates(clubId, request);
+        Map<Long, String> skipped = new LinkedHashMap<>();
+
+        // Finalized rows stay as they are; waitlisted rows need a free seat to be approved
+        List<Long> toUpdate = new ArrayList<>();
+        Map<Long, Long> seatsTaken = new HashMap<>(); // regId -> eventId
+        for (Candidate c : candidates.values()) {
+            if (c.status == null) {
+                skipped.put(c.regId, "Registration not found");
+            } else if (FINAL.contains(c.status)) {
+                skipped.put(c.regId, "Already " + c.status);
+            } else if (!SeatAllocationService.holdsSeat(c.status) && SeatAllocationService.holdsSeat(newStatus)) {
+                if (seatAllocationService.tryAcquire(c.eventId)) {
+                    seatsTaken.put(c.regId, c.eventId);
+                    toUpdate.add(c.regId);
+                } else {
+                    skipped.put(c.regId, "Event is full");
+                }
+            } else {
+                toUpdate.add(c.regId);
+            }
+        }
+
+        List<Long> updated = new ArrayList<>();
+        List<Long> freedSeats = new ArrayList<>(); // eventId per seat released by a rejection
+        if (!toUpdate.isEmpty()) {
+            // Each row must still have the status it was read with: seats above were taken on
+            // that basis (a waitlisted row promoted in between already holds one). Checked
+            // under the row lock, so "Updated by someone else" below hands such seats back.
+            String[] readStatuses = toUpdate.stream().map(id -> candidates.get(id).status).toArray(String[]::new);
+            jdbcTemplate.query(
+                    "UPDATE registrations r SET status = ? FROM ("
+                            + "SELECT reg.reg_id, reg.status AS old_status FROM registrations reg "
+                            + "JOIN unnest(CAST(? AS bigint[]), CAST(? AS text[])) AS x(reg_id, status) "
+                            + "ON x.reg_id = reg.reg_id AND x.status = reg.status "
+                            + "WHERE reg.status NOT IN ('APPROVED', 'REJECTED') FOR UPDATE OF reg) o "
+                            + "WHERE r.reg_id = o.reg_id RETURNING r.reg_id, r.event_id, r.user_id, o.old_status",
+                    rs -> {
+                        updated.add(rs.getLong("reg_id"));
+                        liveUpdateBus.registrationStatusChanged(rs.getLong("event_id"), rs.getLong("reg_id"),
+                                rs.getLong("user_id"), newStatus);
+                        checkInService.statusChanged(rs.getLong("event_id"), rs.getLong("reg_id"), newStatus);
+                        if (SeatAllocationService.holdsSeat(rs.getString("old_status"))
+                                && !SeatAllocationService.holdsSeat(newStatus)) {
+                            freedSeats.add(rs.getLong("event_id"));
+                        }
+                    },
+                    newStatus, toUpdate.toArray(new Long[0]), readStatuses);
+        }
+
+        // Changed by someone else between the read and the UPDATE
+        Set<Long> updatedSet = new LinkedHashSet<>(updated);
+        for (Long regId : toUpdate) {
+            if (!updatedSet.contains(regId)) {
+                skipped.put(regId, "Updated by someone else");
+                Long eventId = seatsTaken.get(regId);
+                if (eventId != null) seatAllocationService.release(eventId);
+            }
+        }
+
+        // Each rejected seat goes to the oldest waitlisted registration
+        for (Long eventId : freedSeats) {
+            seatAllocationService.onSeatFreed(eventId);
+        }
+
+        return new BulkStatusResult(newStatus, updated, skipped);
+    }
+
+    private Map<Long, Candidate> loadCandidates(String clubId, BulkStatusRequest request) {
+        Map<Long, Candidate> candidates = new LinkedHashMap<>();
+        String select = "SELECT r.reg_id, r.event_id, r.status, e.club_id FROM registrations r "
+                + "JOIN events e ON e.event_id = r.event_id";
+
+        List<Long> regIds = request.getRegIds();
+        if (regIds != null && !regIds.isEmpty()) {
+            Set<Long> unique = new LinkedHashSet<>(regIds);
+            unique.remove(null);
+            if (unique.size() > MAX_BATCH) {
+                throw new IllegalArgumentException("At most " + MAX_BATCH + " registrations per request");
+            }
+            for (Long id : unique) {
+                candidates.put(id, new Candidate(id, null, null));
+            }
+            jdbcTemplate.query(select + " WHERE r.reg_id = ANY(?)", rs -> {
+                if (!clubId.equals(rs.getString("club_id"))) {
+                    throw new SecurityException("You can only manage registrations for your own club's events!");
+                }
+                long id = rs.getLong("reg_id");
+                candidates.put(id, new Candidate(id, rs.getLong("event_id"), rs.getString("status")));
+            }, (Object) unique.toArray(new Long[0]));
+            return candidates;
+        }
+
+        if (request.getEventId() == null && (request.getCurrentStatus() == null || request.getCurrentStatus().isBlank())) {
+            throw new IllegalArgumentException("Provide regIds, or an eventId / currentStatus filter");
+        }
+        StringBuilder sql = new StringBuilder(select).append(" WHERE e.club_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(clubId);
+        if (request.getEventId() != null) {
+            sql.append(" AND r.event_id = ?");
+            args.add(request.getEventId());
+        }
+        if (request.getCurrentStatus() != null && !request.getCurrentStatus().isBlank()) {
+            sql.append(" AND r.status = ?");
+            args.add(request.getCurrentStatus().trim().toUpperCase());
+        }
+        sql.append(" ORDER BY r.reg_id LIMIT ").append(MAX_BATCH + 1);
+        jdbcTemplate.query(sql.toString(), rs -> {
+            long id = rs.getLong("reg_id");
+            candidates.put(id, new Candidate(id, rs.getLong("event_id"), rs.getString("status")));
+        }, args.toArray());
+        if (candidates.size() > MAX_BATCH) {
+            throw new IllegalArgumentException("Filter matches more than " + MAX_BATCH + " registrations; narrow it down");
+        }
+        return candidates;
+    }
+
+    private static final class Candidate {
+        final Long regId;
+        final Long eventId;
+        final String status;
+
+        Candidate(Long regId, Long eventId, String status) {
+            this.regId = regId;
+            this.eventId = eventId;
+            this.status = status;
+        }
+    }
+}
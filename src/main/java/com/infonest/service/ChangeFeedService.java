@@ -0,0 +1,162 @@
+package com.infonest.service;
+
+import com.infonest.dto.ChangeSet;
+import com.infonest.model.Event;
+import com.infonest.model.Registration;
+import com.infonest.model.User;
+import com.infonest.repository.ClubRepository;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.repository.UserRepository;
+import com.infonest.repository.VenueRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * "What changed since X" for sync clients. Rows are picked by their trigger-maintained
+ * updated_at, deletions come from the change_tombstones log. The returned watermark is
+ * the database clock at the start of the read minus a small overlap, so a write that
+ * committed late (stamped before we read, visible only after) is still picked up on the
+ * next call; clients must therefore apply changes idempotently (upsert by id).
+ * Rows moved to the archive (ArchiveService) are not reported as deletions.
+ */
+@Service
+public class ChangeFeedService {
+
+    public static final int DEFAULT_LIMIT = 1000;
+    public static final int MAX_LIMIT = 5000;
+
+    public static final String EVENTS = "events";
+    public static final String CLUBS = "clubs";
+    public static final String VENUES = "venues";
+    public static final String REGISTRATIONS = "registrations";
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ClubRepository clubRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Value("${infonest.changes.overlap-ms:5000}")
+    private long overlapMs;
+
+    @Value("${infonest.changes.tombstone-retention-days:30}")
+    private int retentionDays;
+
+    /**
+     * @param since  watermark from the previous call; null for a first full sync
+     * @param email  authenticated user, or null for anonymous callers (no registrations)
+     */
+    @Transactional(readOnly = true)
+    public ChangeSet changesSince(LocalDateTime since, Integer limit, String email) {
+        int max = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+        Pageable page = PageRequest.of(0, max + 1);
+
+        LocalDateTime now = jdbcTemplate.queryForObject("SELECT CAST(clock_timestamp() AS timestamp)",
+                LocalDateTime.class);
+        LocalDateTime from = since == null ? EPOCH : since;
+
+        ChangeSet changes = new ChangeSet();
+        // Tombstones older than the retention window are gone, so deletes may have been missed
+        changes.setFullResync(since != null && since.isBefore(now.minusDays(retentionDays)));
+
+        User user = email == null ? null : userRepository.findByEmail(email).orElse(null);
+        String role = user == null || user.getRole() == null ? "" : user.getRole().toUpperCase();
+        boolean admin = "ADMIN".equals(role);
+
+        // Each list is cut at max rows; if any is cut the watermark can only advance to the
+        // earliest cut point, rows after it in the other lists are simply sent again next time
+        LocalDateTime watermark = now.minusNanos(overlapMs * 1_000_000L);
+        List<LocalDateTime> cuts = new ArrayList<>();
+
+        List<Event> events = trim(eventRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscEventIdAsc(from, page),
+                max, Event::getUpdatedAt, cuts);
+        for (Event e : events) {
+            // Hidden events are deletions as far as the public is concerned
+            if (admin || !Boolean.TRUE.equals(e.getHidden())) {
+                changes.getEvents().add(e);
+            } else {
+                changes.getDeleted().add(new ChangeSet.Deletion(EVENTS, e.getEventId().toString(), e.getUpdatedAt()));
+            }
+        }
+        changes.setClubs(trim(clubRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscClubIdAsc(from, page),
+                max, c -> c.getUpdatedAt(), cuts));
+        changes.setVenues(trim(venueRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscVenueIdAsc(from, page),
+                max, v -> v.getUpdatedAt(), cuts));
+
+        List<Registration> registrations = null;
+        if (admin) {
+            registrations = registrationRepository.findByUpdatedAtGreaterThanEqualOrderByUpdatedAtAscRegIdAsc(from, page);
+        } else if ("FACULTY".equals(role) && user.getClubId() != null) {
+            registrations = registrationRepository.findClubChangesSince(user.getClubId(), from, page);
+        } else if (user != null) {
+            registrations = registrationRepository.findByUserIdAndUpdatedAtGreaterThanEqualOrderByUpdatedAtAscRegIdAsc(
+                    user.getUserId(), from, page);
+        }
+        if (registrations != null) {
+            changes.setRegistrations(trim(registrations, max, Registration::getUpdatedAt, cuts));
+        }
+
+        // Registration tombstones carry only the id; a client drops it if it has it
+        List<String> entities = registrations != null
+                ? List.of(EVENTS, CLUBS, VENUES, REGISTRATIONS)
+                : List.of(EVENTS, CLUBS, VENUES);
+        List<ChangeSet.Deletion> tombstones = jdbcTemplate.query(
+                "SELECT entity, entity_id, deleted_at FROM change_tombstones "
+                        + "WHERE deleted_at >= ? AND entity = ANY(?) ORDER BY deleted_at, id LIMIT ?",
+                (rs, i) -> new ChangeSet.Deletion(rs.getString("entity"), rs.getString("entity_id"),
+                        rs.getTimestamp("deleted_at").toLocalDateTime()),
+                Timestamp.valueOf(from), entities.toArray(new String[0]), max + 1);
+        changes.getDeleted().addAll(trim(tombstones, max, ChangeSet.Deletion::getDeletedAt, cuts));
+
+        if (!cuts.isEmpty()) {
+            changes.setHasMore(true);
+            for (LocalDateTime cut : cuts) {
+                if (cut.isBefore(watermark)) watermark = cut;
+            }
+        }
+        changes.setWatermark(watermark);
+        return changes;
+    }
+
+    // Tombstones past retention; clients that far behind get fullResync instead
+    @Transactional
+    public int pruneTombstones() {
+        return jdbcTemplate.update("DELETE FROM change_tombstones WHERE deleted_at < ?",
+                Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)));
+    }
+
+    // Drops the lookahead row; a cut list records the last updatedAt it returned
+    private static <T> List<T> trim(List<T> rows, int max, Function<T, LocalDateTime> updatedAt,
+            List<LocalDateTime> cuts) {
+        if (rows.size() <= max) return rows;
+        List<T> page = new ArrayList<>(rows.subList(0, max));
+        cuts.add(updatedAt.apply(page.get(max - 1)));
+        return page;
+    }
+}
@@ -0,0 +1,260 @@
+package com.infonest.service;
+
+import com.infonest.dto.CheckInResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Door check-in. A student's check-in code is "regId.eventId.signature"
+ * (HMAC-SHA256, truncated), so a scan is verified without a DB lookup. When
+ * faculty open check-in for an event, its approved registrations are loaded
+ * into memory; each scan is then a set lookup plus an atomic add to the
+ * checked-in set, which is what makes a second scan of the same code (from any
+ * device) come back as ALREADY_CHECKED_IN. The checked_in_at writes are queued
+ * and flushed in batches by a scheduler.
+ */
+@Service
+public class CheckInService {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckInService.class);
+
+    public static final String CHECKED_IN = "CHECKED_IN";
+    public static final String ALREADY_CHECKED_IN = "ALREADY_CHECKED_IN";
+    public static final String NOT_APPROVED = "NOT_APPROVED";
+    public static final String INVALID_CODE = "INVALID_CODE";
+    public static final String WRONG_EVENT = "WRONG_EVENT";
+    public static final String NOT_OPEN = "NOT_OPEN";
+
+    // 128 bits of the HMAC is plenty for a code that is only valid for one registration
+    private static final int SIGNATURE_BYTES = 16;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${infonest.checkin.secret:${infonest.jwt.secret}}")
+    private String secret;
+
+    private final Map<Long, Session> sessions = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<PendingCheckIn> pending = new ConcurrentLinkedQueue<>();
+
+    private final ThreadLocal<Mac> mac = ThreadLocal.withInitial(() -> {
+        try {
+            Mac m = Mac.getInstance("HmacSHA256");
+            m.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return m;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 unavailable", e);
+        }
+    });
+
+    // ==================== CODES ====================
+
+    public String codeFor(Long regId, Long eventId) {
+        return regId + "." + eventId + "." + Base64.getUrlEncoder().withoutPadding().encodeToString(sign(regId, eventId));
+    }
+
+    // regId of a genuine code, or null if it is malformed or the signature doesn't match
+    private Long verify(String code, Long expectedEventId, boolean[] wrongEvent) {
+        if (code == null) return null;
+        String[] parts = code.trim().split("\\.");
+        if (parts.length != 3) return null;
+        try {
+            long regId = Long.parseLong(parts[0]);
+            long eventId = Long.parseLong(parts[1]);
+            byte[] given = Base64.getUrlDecoder().decode(parts[2]);
+            if (!MessageDigest.isEqual(given, sign(regId, eventId))) return null;
+            if (eventId != expectedEventId) {
+                wrongEvent[0] = true;
+                return null;
+            }
+            return regId;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(long regId, long eventId) {
+        byte[] full = mac.get().doFinal(("checkin:" + regId + ":" + eventId).getBytes(StandardCharsets.UTF_8));
+        return Arrays.copyOf(full, SIGNATURE_BYTES);
+    }
+
+    // ==================== SESSIONS ====================
+
+    /**
+     * Loads the approved list; safe to call again from another device. A re-open
+     * merges into the live session instead of replacing it, so its checked-in set
+     * (the thing that rejects a second scan) is never swapped out under a scan.
+     * Rejections made since the first open already reached the session via statusChanged.
+     */
+    public CheckInResult open(Long eventId, String clubId) {
+        Map<Long, String> approved = new HashMap<>();
+        Set<Long> checkedIn = new HashSet<>();
+        // Same monitor as flush(), so no batch lands between the DB read and the pending copy
+        synchronized (this) {
+            jdbcTemplate.query("SELECT r.reg_id, r.checked_in_at, u.first_name, u.last_name FROM registrations r "
+                            + "LEFT JOIN users u ON u.user_id = r.user_id WHERE r.event_id = ? AND r.status = 'APPROVED'",
+                    rs -> {
+                        long regId = rs.getLong("reg_id");
+                        approved.put(regId, name(regId, rs.getString("first_name"), rs.getString("last_name")));
+                        if (rs.getTimestamp("checked_in_at") != null) checkedIn.add(regId);
+                    }, eventId);
+            // Scans already accepted but not yet flushed stay checked in
+            for (PendingCheckIn p : pending) {
+                if (p.eventId.equals(eventId)) checkedIn.add(p.regId);
+            }
+        }
+        sessions.compute(eventId, (id, session) -> {
+            Session s = session != null ? session : new Session(clubId);
+            s.approved.putAll(approved);
+            s.checkedIn.addAll(checkedIn);
+            return s;
+        });
+        return status(eventId);
+    }
+
+    public void close(Long eventId) {
+        flush();
+        sessions.remove(eventId);
+    }
+
+    // Queued scans for a removed event just update no rows on the next flush
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        sessions.keySet().removeAll(removed.getEventIds());
+    }
+
+    public boolean isOpen(Long eventId) {
+        return sessions.containsKey(eventId);
+    }
+
+    // Owning club of an open session, so scans don't need an event lookup
+    public String clubOf(Long eventId) {
+        Session session = sessions.get(eventId);
+        return session != null ? session.clubId : null;
+    }
+
+    public CheckInResult status(Long eventId) {
+        Session session = sessions.get(eventId);
+        if (session == null) return new CheckInResult(NOT_OPEN, null, null, 0, 0);
+        return new CheckInResult(null, null, null, session.checkedIn.size(), session.approved.size());
+    }
+
+    public CheckInResult scan(Long eventId, String code) {
+        Session session = sessions.get(eventId);
+        if (session == null) return new CheckInResult(NOT_OPEN, null, null, 0, 0);
+
+        boolean[] wrongEvent = { false };
+        Long regId = verify(code, eventId, wrongEvent);
+        if (regId == null) {
+            return result(session, wrongEvent[0] ? WRONG_EVENT : INVALID_CODE, null);
+        }
+        if (!session.approved.containsKey(regId)) {
+            return result(session, NOT_APPROVED, regId);
+        }
+        // The set decides: exactly one scan of a code wins, whichever device sent it
+        if (!session.checkedIn.add(regId)) {
+            return result(session, ALREADY_CHECKED_IN, regId);
+        }
+        pending.add(new PendingCheckIn(eventId, regId, LocalDateTime.now()));
+        return result(session, CHECKED_IN, regId);
+    }
+
+    // Keeps an open session in step with approvals/rejections made while the doors are open
+    public void statusChanged(Long eventId, Long regId, String status) {
+        Session session = sessions.get(eventId);
+        if (session == null) return;
+        if ("APPROVED".equals(status)) {
+            session.approved.putIfAbsent(regId, "Registration #" + regId);
+        } else {
+            session.approved.remove(regId);
+        }
+    }
+
+    /**
+     * Writes queued check-ins as one JDBC batch. "checked_in_at IS NULL" keeps the
+     * first scan time if a row was somehow queued twice. Failed batches are re-queued.
+     */
+    public synchronized void flush() {
+        List<PendingCheckIn> batch = new ArrayList<>();
+        PendingCheckIn next;
+        while ((next = pending.poll()) != null) {
+            batch.add(next);
+        }
+        if (batch.isEmpty()) return;
+
+        List<Object[]> args = new ArrayList<>(batch.size());
+        for (PendingCheckIn p : batch) {
+            args.add(new Object[] { Timestamp.valueOf(p.at), p.regId });
+        }
+        try {
+            jdbcTemplate.batchUpdate(
+                    "UPDATE registrations SET checked_in_at = ? WHERE reg_id = ? AND checked_in_at IS NULL", args);
+        } catch (RuntimeException e) {
+            log.warn("Check-in flush of {} rows failed, will retry: {}", batch.size(), e.getMessage());
+            pending.addAll(batch);
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        flush();
+    }
+
+    private static CheckInResult result(Session session, String result, Long regId) {
+        String name = regId != null ? session.approved.get(regId) : null;
+        return new CheckInResult(result, regId, name, session.checkedIn.size(), session.approved.size());
+    }
+
+    // Map values can't be null, so unknown users get a placeholder
+    private static String name(long regId, String first, String last) {
+        String full = ((first != null ? first : "") + " " + (last != null ? last : "")).trim();
+        return full.isEmpty() ? "Registration #" + regId : full;
+    }
+
+    private static final class Session {
+        final String clubId;
+        // regId -> attendee name
+        final Map<Long, String> approved = new ConcurrentHashMap<>();
+        final Set<Long> checkedIn = ConcurrentHashMap.newKeySet();
+
+        Session(String clubId) {
+            this.clubId = clubId;
+        }
+    }
+
+    private static final class PendingCheckIn {
+        final Long eventId;
+        final Long regId;
+        final LocalDateTime at;
+
+        PendingCheckIn(Long eventId, Long regId, LocalDateTime at) {
+            this.eventId = eventId;
+            this.regId = regId;
+            this.at = at;
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.infonest.service;
+
+import com.infonest.dto.ScheduleClash;
+import com.infonest.model.Schedules;
+import com.infonest.model.VenueBooking;
+import com.infonest.repository.ScheduleRepository;
+import com.infonest.repository.VenueBookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+@Service
+public class ClashDetectionService {
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private VenueBookingRepository venueBookingRepository;
+
+    /**
+     * Full institution report: every timetable slot plus every confirmed booking
+     */
+    @Transactional(readOnly = true)
+    public List<ScheduleClash> findAllClashes() {
+        return detect(new ArrayList<>(), scheduleRepository.findAll(),
+                venueBookingRepository.findAllConfirmedWithVenue());
+    }
+
+    /**
+     * Import-time check: only clashes that involve at least one of the incoming rows
+     */
+    public List<ScheduleClash> findClashesForImport(List<Schedules> incoming) {
+        if (incoming.isEmpty()) return new ArrayList<>();
+        return detect(incoming, scheduleRepository.findAll(),
+                venueBookingRepository.findAllConfirmedWithVenue());
+    }
+
+    // Sweep-line over (resource, day) buckets. Incoming rows are checked against
+    // each other and against everything already stored; if incoming is empty the
+    // whole stored data set is reported.
+    public static List<ScheduleClash> detect(List<Schedules> incoming, List<Schedules> existing,
+            List<VenueBooking> bookings) {
+        Map<String, List<Interval>> buckets = new HashMap<>();
+
+        for (Schedules s : incoming) {
+            addSchedule(buckets, s, true);
+        }
+        for (Schedules s : existing) {
+            addSchedule(buckets, s, false);
+        }
+        for (VenueBooking b : bookings) {
+            addBooking(buckets, b);
+        }
+
+        boolean onlyIncoming = !incoming.isEmpty();
+        List<ScheduleClash> clashes = new ArrayList<>();
+        List<Interval> active = new ArrayList<>();
+
+        for (List<Interval> bucket : buckets.values()) {
+            if (bucket.size() < 2) continue;
+            bucket.sort(Comparator.comparing((Interval i) -> i.start).thenComparing(i -> i.end));
+            active.clear();
+
+            for (Interval current : bucket) {
+                // Drop everything that finished before (or exactly when) this slot starts
+                Iterator<Interval> it = active.iterator();
+                while (it.hasNext()) {
+                    if (!it.next().end.isAfter(current.start)) it.remove();
+                }
+
+                for (Interval other : active) {
+                    // Two one-off bookings only collide on the same calendar date
+                    if (other.date != null && current.date != null && !other.date.equals(current.date)) continue;
+                    if (onlyIncoming && !other.incoming && !current.incoming) continue;
+                    clashes.add(toClash(other, current));
+                }
+                active.add(current);
+            }
+        }
+
+        clashes.sort(Comparator.comparing(ScheduleClash::getKind)
+                .thenComparing(ScheduleClash::getResource)
+                .thenComparing(ScheduleClash::getDayOfWeek)
+                .thenComparing(c -> c.getFirst().getStartTime()));
+        return clashes;
+    }
+
+    private static void addSchedule(Map<String, List<Interval>> buckets, Schedules s, boolean incoming) {
+        if (s.getDayOfWeek() == null || !isValidRange(s.getStartTime(), s.getEndTime())) return;
+        String day = s.getDayOfWeek().toString();
+        ScheduleClash.Slot slot = new ScheduleClash.Slot("SCHEDULE", s.getId(), s.getTeacherName(), s.getRoomNo(),
+                s.getSubject() + " (" + s.getBatchName() + ")", s.getStartTime(), s.getEndTime());
+
+        String room = normalizeRoom(s.getRoomNo());
+        if (room != null) {
+            put(buckets, new Interval("ROOM", room, day, null, slot, incoming));
+        }
+        String teacher = normalizeEmail(s.getEmail());
+        if (teacher != null) {
+            put(buckets, new Interval("TEACHER", teacher, day, null, slot, incoming));
+        }
+    }
+
+    private static void addBooking(Map<String, List<Interval>> buckets, VenueBooking b) {
+        if (b.getBookingDate() == null || !isValidRange(b.getStartTime(), b.getEndTime())) return;
+        String day = b.getBookingDate().getDayOfWeek().toString();
+        String venueName = b.getVenue() != null ? b.getVenue().getName() : null;
+        ScheduleClash.Slot slot = new ScheduleClash.Slot("BOOKING", b.getBookingId(), b.getBookedByName(), venueName,
+                b.getPurpose() + (b.getEventName() != null ? " - " + b.getEventName() : ""),
+                b.getStartTime(), b.getEndTime());
+
+        String room = normalizeRoom(venueName);
+        if (room != null) {
+            put(buckets, new Interval("ROOM", room, day, b.getBookingDate(), slot, false));
+        }
+        String teacher = normalizeEmail(b.getBookedByEmail());
+        if (teacher != null) {
+            put(buckets, new Interval("TEACHER", teacher, day, b.getBookingDate(), slot, false));
+        }
+    }
+
+    private static void put(Map<String, List<Interval>> buckets, Interval interval) {
+        String key = interval.kind + "|" + interval.resource + "|" + interval.day;
+        buckets.computeIfAbsent(key, k -> new ArrayList<>()).add(interval);
+    }
+
+    private static ScheduleClash toClash(Interval a, Interval b) {
+        LocalDate date = a.date != null ? a.date : b.date;
+        return new ScheduleClash(a.kind, a.resource, a.day, date, a.slot, b.slot);
+    }
+
+    private static boolean isValidRange(LocalTime start, LocalTime end) {
+        return start != null && end != null && end.isAfter(start);
+    }
+
+    // "Room 204", "room  204 " and "ROOM 204" are the same room
+    static String normalizeRoom(String room) {
+        if (room == null) return null;
+        String r = room.trim().replaceAll("\\s+", " ").toUpperCase(Locale.ROOT);
+        return r.isEmpty() ? null : r;
+    }
+
+    static String normalizeEmail(String email) {
+        return ScheduleService.normalizeEmail(email);
+    }
+
+    private static final class Interval {
+        final String kind;
+        final String resource;
+        final String day;
+        final LocalDate date;
+        final LocalTime start;
+        final LocalTime end;
+        final ScheduleClash.Slot slot;
+        final boolean incoming;
+
+        Interval(String kind, String resource, String day, LocalDate date, ScheduleClash.Slot slot, boolean incoming) {
+            this.kind = kind;
+            this.resource = resource;
+            this.day = day;
+            this.date = date;
+            this.start = slot.getStartTime();
+            this.end = slot.getEndTime();
+            this.slot = slot;
+            this.incoming = incoming;
+        }
+    }
+}
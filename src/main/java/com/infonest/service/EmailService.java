@@ -3,6 +3,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+
+import java.util.List;
 @Service
 public class EmailService {
     @Autowired
@@ -15,4 +17,10 @@ public class EmailService {
         message.setText(body);
         mailSender.send(message);
     }
+
+    // Several messages over one SMTP connection instead of one connection each
+    public void sendBatch(List<SimpleMailMessage> messages) {
+        if (messages.isEmpty()) return;
+        mailSender.send(messages.toArray(new SimpleMailMessage[0]));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.infonest.service;
+
+import com.infonest.dto.EventPage;
+import com.infonest.dto.EventSummary;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Keyset-paginated event listing. Pages are ordered by (event_date, event_id) and
+ * the cursor is the last row's key, so page N costs the same as page 1 (no OFFSET)
+ * and inserts between requests don't shift rows across pages. Events without a
+ * date sort last. Rows are EventSummary, i.e. no description.
+ */
+@Service
+public class EventQueryService {
+
+    public static final int DEFAULT_LIMIT = 20;
+    public static final int MAX_LIMIT = 100;
+
+    private static final String COLUMNS = "event_id, club_id, venue_id, event_name, event_date, event_time, "
+            + "deadline, registration_form_link, hidden, seat_limit, registration_count";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RegistrationCounterService registrationCounterService;
+
+    private final RowMapper<EventSummary> rowMapper = (rs, i) -> {
+        Date date = rs.getDate("event_date");
+        Time time = rs.getTime("event_time");
+        Date deadline = rs.getDate("deadline");
+        long eventId = rs.getLong("event_id");
+        return new EventSummary(
+                eventId,
+                rs.getString("club_id"),
+                rs.getString("venue_id"),
+                rs.getString("event_name"),
+                date != null ? date.toLocalDate() : null,
+                time != null ? time.toLocalTime() : null,
+                deadline != null ? deadline.toLocalDate() : null,
+                rs.getString("registration_form_link"),
+                rs.getBoolean("hidden"),
+                (Integer) rs.getObject("seat_limit"),
+                rs.getLong("registration_count") + registrationCounterService.pendingFor(eventId));
+    };
+
+    /**
+     * @param hidden null = both visible and hidden events
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public EventPage listEvents(String clubId, LocalDate from, LocalDate to, Boolean hidden,
+            String cursor, Integer limit) {
+        int pageSize = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM events WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+
+        if (clubId != null && !clubId.isBlank()) {
+            sql.append(" AND club_id = ?");
+            args.add(clubId);
+        }
+        if (from != null) {
+            sql.append(" AND event_date >= ?");
+            args.add(Date.valueOf(from));
+        }
+        if (to != null) {
+            sql.append(" AND event_date <= ?");
+            args.add(Date.valueOf(to));
+        }
+        if (hidden != null) {
+            sql.append(" AND hidden = ?");
+            args.add(hidden);
+        }
+
+        if (cursor != null && !cursor.isBlank()) {
+            Key after = decodeCursor(cursor);
+            if (after.date != null) {
+                sql.append(" AND ((event_date, event_id) > (?, ?) OR event_date IS NULL)");
+                args.add(Date.valueOf(after.date));
+            } else {
+                sql.append(" AND event_date IS NULL AND event_id > ?");
+            }
+            args.add(after.id);
+        }
+
+        // One extra row tells us whether another page exists
+        sql.append(" ORDER BY event_date ASC NULLS LAST, event_id ASC LIMIT ?");
+        args.add(pageSize + 1);
+
+        List<EventSummary> rows = jdbcTemplate.query(sql.toString(), rowMapper, args.toArray());
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+        String nextCursor = null;
+        if (hasMore) {
+            EventSummary last = rows.get(rows.size() - 1);
+            nextCursor = encodeCursor(last.getEventDate(), last.getEventId());
+        }
+        return new EventPage(rows, nextCursor, hasMore);
+    }
+
+    // Opaque to clients: base64url("2025-03-14|42"), "-" for a missing date
+    static String encodeCursor(LocalDate date, Long id) {
+        String raw = (date != null ? date.toString() : "-") + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static Key decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            int sep = raw.indexOf('|');
+            String datePart = raw.substring(0, sep);
+            LocalDate date = "-".equals(datePart) ? null : LocalDate.parse(datePart);
+            return new Key(date, Long.parseLong(raw.substring(sep + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    static final class Key {
+        final LocalDate date;
+        final long id;
+
+        Key(LocalDate date, long id) {
+            this.date = date;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.infonest.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reminder mails for upcoming events. One join finds every seat-holding
+ * registration of the events happening between today and N days out that hasn't
+ * been reminded yet; the mails go into a queue that a scheduled drain sends at a
+ * capped rate, a few per SMTP connection, and marks as sent in bulk
+ * (reminder_sent_at), so a restart never sends a reminder twice. The queue is
+ * memory only: it is rebuilt on startup, and whatever a capped build left out is
+ * picked up once the queue runs dry. Mail goes out on its own thread, so a slow
+ * or hung SMTP server never holds up the shared scheduler thread.
+ */
+@Service
+public class EventReminderService {
+
+    private static final Logger log = LoggerFactory.getLogger(EventReminderService.class);
+
+    // Upper bound on one build; the rest is fetched by another build once these are sent
+    private static final int MAX_PER_BUILD = 10_000;
+
+    // An address the mail server keeps rejecting is given up on after this many tries
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Value("${infonest.reminders.days-ahead:1}")
+    private int daysAhead;
+
+    // Gmail-style SMTP limits: keep well below them
+    @Value("${infonest.reminders.per-minute:30}")
+    private int perMinute;
+
+    @Value("${infonest.reminders.batch-size:10}")
+    private int batchSize;
+
+    private final ConcurrentLinkedQueue<Reminder> queue = new ConcurrentLinkedQueue<>();
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    // Rejected MAX_ATTEMPTS times; skipped by later builds while the event is still in range
+    private final Set<Long> givenUp = ConcurrentHashMap.newKeySet();
+    private volatile boolean moreWaiting;
+
+    // Tokens refill per drain tick; the scheduler calls drain every 10 seconds
+    private double tokens;
+
+    private final ExecutorService sender = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "reminder-sender");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicBoolean sending = new AtomicBoolean();
+
+    // Soonest events first, so a capped build never starves tomorrow's reminders
+    public int buildReminders() {
+        LocalDate today = LocalDate.now();
+        LocalDate until = today.plusDays(daysAhead);
+        int[] rows = { 0 };
+        int[] added = { 0 };
+        Set<Long> seen = new HashSet<>();
+        jdbcTemplate.query("SELECT r.reg_id, u.email, u.first_name, e.event_name, e.event_date, e.event_time, e.venue_id "
+                        + "FROM events e "
+                        + "JOIN registrations r ON r.event_id = e.event_id "
+                        + "JOIN users u ON u.user_id = r.user_id "
+                        + "WHERE e.event_date BETWEEN ? AND ? AND e.hidden = false "
+                        + "AND r.status NOT IN ('WAITLISTED', 'REJECTED') AND r.reminder_sent_at IS NULL "
+                        + "ORDER BY e.event_date, r.reg_id LIMIT ?",
+                rs -> {
+                    rows[0]++;
+                    long regId = rs.getLong("reg_id");
+                    seen.add(regId);
+                    String email = rs.getString("email");
+                    if (email == null || givenUp.contains(regId) || !queued.add(regId)) return;
+                    queue.add(new Reminder(regId, message(email, rs.getString("first_name"),
+                            rs.getString("event_name"), rs.getDate("event_date"), rs.getString("event_time"),
+                            rs.getString("venue_id"))));
+                    added[0]++;
+                }, Date.valueOf(today), Date.valueOf(until), MAX_PER_BUILD);
+        moreWaiting = rows[0] >= MAX_PER_BUILD && added[0] > 0;
+        // Past events drop out of the query, and with them their given-up entries
+        if (!moreWaiting) givenUp.retainAll(seen);
+        if (added[0] > 0) log.info("Queued {} reminders for events from {} to {}", added[0], today, until);
+        return added[0];
+    }
+
+    // Whatever was queued before a restart is gone from memory but not yet marked sent
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        buildReminders();
+    }
+
+    // Called by the scheduler: hands the tick to the sender thread and returns right away
+    public void drain(long tickMs) {
+        if (!sending.compareAndSet(false, true)) return; // Last tick is still sending
+        sender.execute(() -> {
+            try {
+                sendDue(tickMs);
+            } catch (RuntimeException e) {
+                log.warn("Reminder drain failed: {}", e.getMessage());
+            } finally {
+                sending.set(false);
+            }
+        });
+    }
+
+    /**
+     * Sends what the rate allows this tick, batchSize mails per connection.
+     * Mails the server rejected go back on the queue, up to MAX_ATTEMPTS; a
+     * failure before any mail was tried (connection down) doesn't count as one.
+     * The rest are marked sent.
+     */
+    private synchronized void sendDue(long tickMs) {
+        if (queue.isEmpty() && moreWaiting) buildReminders();
+        tokens = Math.min(perMinute, tokens + perMinute * tickMs / 60_000.0);
+        while (tokens >= 1 && !queue.isEmpty()) {
+            List<Reminder> batch = new ArrayList<>();
+            Reminder next;
+            while (batch.size() < Math.min(batchSize, (int) tokens) && (next = queue.poll()) != null) {
+                batch.add(next);
+            }
+            if (batch.isEmpty()) return;
+            tokens -= batch.size();
+
+            Set<Reminder> failed = new HashSet<>();
+            boolean rejected = false;
+            try {
+                emailService.sendBatch(batch.stream().map(r -> r.message).toList());
+            } catch (MailSendException e) {
+                for (Object message : e.getFailedMessages().keySet()) {
+                    batch.stream().filter(r -> r.message == message).forEach(failed::add);
+                }
+                rejected = !failed.isEmpty();
+                if (failed.isEmpty()) failed.addAll(batch); // Failed before any message was tried
+                log.warn("{} of {} reminders failed: {}", failed.size(), batch.size(), e.getMessage());
+            } catch (MailException e) {
+                failed.addAll(batch);
+                log.warn("Reminder batch of {} failed: {}", batch.size(), e.getMessage());
+            }
+
+            List<Long> sent = new ArrayList<>();
+            for (Reminder r : batch) {
+                if (failed.contains(r)) {
+                    if (rejected && ++r.attempts >= MAX_ATTEMPTS) {
+                        log.warn("Giving up on reminder for registration {} after {} rejections", r.regId, r.attempts);
+                        queued.remove(r.regId);
+                        givenUp.add(r.regId);
+                    } else {
+                        queue.add(r);
+                    }
+                } else {
+                    sent.add(r.regId);
+                    queued.remove(r.regId);
+                }
+            }
+            if (!sent.isEmpty()) {
+                jdbcTemplate.update("UPDATE registrations SET reminder_sent_at = now() WHERE reg_id = ANY(?)",
+                        (Object) sent.toArray(new Long[0]));
+            }
+            if (!failed.isEmpty()) return; // Back off until the next tick
+        }
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+    }
+
+    public int queued() {
+        return queue.size();
+    }
+
+    private static SimpleMailMessage message(String to, String firstName, String eventName, Date date,
+            String time, String venue) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        message.setTo(to);
+        message.setSubject("Reminder: " + eventName + " is coming up");
+        StringBuilder body = new StringBuilder()
+                .append("Hi ").append(firstName != null ? firstName : "there").append(",\n\n")
+                .append("This is a reminder that you are registered for \"").append(eventName).append("\"")
+                .append(" on ").append(date.toLocalDate());
+        if (time != null) body.append(" at ").append(time);
+        if (venue != null && !venue.isBlank()) body.append(", venue ").append(venue);
+        body.append(".\n\nSee you there!\nInfoNest");
+        message.setText(body.toString());
+        return message;
+    }
+
+    private static final class Reminder {
+        final long regId;
+        final SimpleMailMessage message;
+        int attempts;
+
+        Reminder(long regId, SimpleMailMessage message) {
+            this.regId = regId;
+            this.message = message;
+        }
+    }
+}
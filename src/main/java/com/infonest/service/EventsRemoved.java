@@ -0,0 +1,36 @@
+package com.infonest.service;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published once events are gone from the events table, either deleted or moved
+ * to the archive. Every in-memory structure keyed by eventId listens for this
+ * (after commit) instead of each removal path calling them one by one.
+ */
+public final class EventsRemoved {
+
+    private final Set<Long> eventIds;
+    private final boolean archived;
+
+    private EventsRemoved(Set<Long> eventIds, boolean archived) {
+        this.eventIds = eventIds;
+        this.archived = archived;
+    }
+
+    public static EventsRemoved deleted(Long eventId) {
+        return new EventsRemoved(Set.of(eventId), false);
+    }
+
+    public static EventsRemoved archived(Collection<Long> eventIds) {
+        return new EventsRemoved(Set.copyOf(eventIds), true);
+    }
+
+    public Set<Long> getEventIds() {
+        return eventIds;
+    }
+
+    public boolean isArchived() {
+        return archived;
+    }
+}
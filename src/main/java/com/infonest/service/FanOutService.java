@@ -0,0 +1,135 @@
+package com.infonest.service;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent lookups of a composite endpoint side by side, so the
+ * response takes as long as the slowest lookup instead of the sum of all of them.
+ * Each branch has its own timeout; the caller decides per branch whether a
+ * failure fails the request (join) or just leaves that part out (joinOrElse).
+ * Branches are handed straight to an idle thread of a small dedicated pool; when
+ * none is idle the request thread runs the branch itself. Nothing queues, so under
+ * load a request degrades to the sequential version instead of waiting behind
+ * other requests' branches.
+ *
+ * A timeout only stops the caller waiting - it can't stop a query already running.
+ * So each branch runs in a read-only transaction whose timeout matches the branch
+ * timeout; Spring turns that into a statement timeout for the branch's queries,
+ * which bounds how long a hung query holds a pool thread (or, for an inline run,
+ * the request thread).
+ */
+@Service
+public class FanOutService {
+
+    private static final Logger log = LoggerFactory.getLogger(FanOutService.class);
+
+    private static final int POOL_SIZE = 8;
+
+    // Optional so the service also works without a DB (unit tests, benchmarks)
+    @Autowired(required = false)
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${infonest.fanout.timeout-ms:2000}")
+    private long defaultTimeoutMs = 2000;
+
+    private final AtomicInteger threadNo = new AtomicInteger();
+    private final ThreadPoolExecutor executor = new ThreadPoolExecutor(POOL_SIZE, POOL_SIZE,
+            60, TimeUnit.SECONDS, new SynchronousQueue<>(), r -> {
+                Thread t = new Thread(r, "fan-out-" + threadNo.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    public <T> Branch<T> fork(String name, Supplier<T> call) {
+        return fork(name, call, defaultTimeoutMs);
+    }
+
+    public <T> Branch<T> fork(String name, Supplier<T> call, long timeoutMs) {
+        long started = System.nanoTime();
+        CompletableFuture<T> future = new CompletableFuture<T>().orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        Supplier<T> bounded = bounded(call, timeoutMs);
+        executor.execute(() -> {
+            try {
+                future.complete(bounded.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        future.whenComplete((value, error) -> {
+            if (log.isDebugEnabled()) {
+                log.debug("Fan-out branch '{}' {} in {} ms", name, error == null ? "finished" : "failed",
+                        (System.nanoTime() - started) / 1_000_000);
+            }
+        });
+        return new Branch<>(name, future);
+    }
+
+    // Queries inside the branch get the branch timeout (rounded up to whole seconds) as statement timeout
+    private <T> Supplier<T> bounded(Supplier<T> call, long timeoutMs) {
+        if (transactionManager == null) return call;
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.setTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+        return () -> tx.execute(status -> call.get());
+    }
+
+    @PreDestroy
+    void stop() {
+        executor.shutdownNow();
+    }
+
+    public static final class Branch<T> {
+        private final String name;
+        private final CompletableFuture<T> future;
+
+        Branch(String name, CompletableFuture<T> future) {
+            this.name = name;
+            this.future = future;
+        }
+
+        /**
+         * @throws BranchFailedException if the call threw or ran past its timeout
+         */
+        public T join() {
+            try {
+                return future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                throw new BranchFailedException(name, cause);
+            }
+        }
+
+        // For optional parts of a response: a failed branch is logged and replaced
+        public T joinOrElse(T fallback) {
+            try {
+                return join();
+            } catch (BranchFailedException e) {
+                log.warn(e.getMessage());
+                return fallback;
+            }
+        }
+    }
+
+    public static class BranchFailedException extends RuntimeException {
+        public BranchFailedException(String branch, Throwable cause) {
+            super("Fan-out branch '" + branch + "' "
+                    + (cause instanceof TimeoutException ? "timed out" : "failed: " + cause.getMessage()), cause);
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.infonest.service;
+
+import com.infonest.dto.LiveUpdate;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process event bus behind the SSE endpoint. Publishers call it after their
+ * write (delivery waits for commit); each subscriber has a small bounded buffer
+ * drained by a shared sender pool, so one slow client never blocks publishers
+ * or other clients. A client whose buffer overflows is disconnected - the
+ * browser's EventSource reconnects and the page reloads its lists once.
+ */
+@Service
+public class LiveUpdateBus {
+
+    private static final Logger log = LoggerFactory.getLogger(LiveUpdateBus.class);
+
+    public static final String EVENT_CHANGED = "EVENT_CHANGED";
+    public static final String EVENT_DELETED = "EVENT_DELETED";
+    public static final String REGISTRATION_ADDED = "REGISTRATION_ADDED";
+    public static final String REGISTRATION_STATUS_CHANGED = "REGISTRATION_STATUS_CHANGED";
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${infonest.live.buffer-size:64}")
+    private int bufferSize;
+
+    @Value("${infonest.live.max-clients:1000}")
+    private int maxClients;
+
+    private final Set<Client> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong seq = new AtomicLong();
+    // eventId -> clubId, so registration deltas can be routed to the club's faculty
+    private final Map<Long, String> clubByEvent = new ConcurrentHashMap<>();
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(4, r -> {
+        Thread t = new Thread(r, "live-update-sender");
+        t.setDaemon(true);
+        return t;
+    });
+
+    /**
+     * Event changes go to everyone. Registration deltas go to admins, to the
+     * faculty of the event's club (clubId) and to the student (userId).
+     *
+     * @return null if the server is at its client limit
+     */
+    public SseEmitter subscribe(boolean admin, String clubId, Long userId) {
+        if (clients.size() >= maxClients) return null;
+
+        SseEmitter emitter = new SseEmitter(EMITTER_TIMEOUT_MS);
+        Client client = new Client(emitter, admin, clubId, userId, bufferSize);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+        client.offer(SseEmitter.event().comment("connected").build());
+        return emitter;
+    }
+
+    public int clientCount() {
+        return clients.size();
+    }
+
+    // ==================== PUBLISHERS ====================
+
+    public void eventChanged(Event event) {
+        if (event == null || event.getEventId() == null) return;
+        if (event.getClubId() != null) clubByEvent.put(event.getEventId(), event.getClubId());
+        publish(EVENT_CHANGED, event.getEventId(), event.getClubId(), null, null, null);
+    }
+
+    // For bulk SQL changes where only the ID is at hand
+    public void eventChanged(Long eventId) {
+        if (eventId == null) return;
+        publish(EVENT_CHANGED, eventId, clubOf(eventId), null, null, null);
+    }
+
+    // Archived events are long past and on nobody's list; one message each would only flood client buffers
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        for (Long eventId : removed.getEventIds()) {
+            String clubId = clubByEvent.remove(eventId);
+            if (!removed.isArchived()) publish(EVENT_DELETED, eventId, clubId, null, null, null);
+        }
+    }
+
+    public void registrationAdded(Long eventId, Long regId, Long userId, String status) {
+        publish(REGISTRATION_ADDED, eventId, clubOf(eventId), regId, userId, status);
+    }
+
+    public void registrationStatusChanged(Long eventId, Long regId, Long userId, String status) {
+        publish(REGISTRATION_STATUS_CHANGED, eventId, clubOf(eventId), regId, userId, status);
+    }
+
+    // Keeps idle connections (and proxies in between) from timing out
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        for (Client client : clients) {
+            client.offer(ping);
+        }
+    }
+
+    private void publish(String type, Long eventId, String clubId, Long regId, Long userId, String status) {
+        AfterCommit.run(() -> {
+            LiveUpdate update = new LiveUpdate(seq.incrementAndGet(), type, eventId, clubId, regId, userId, status,
+                    LocalDateTime.now());
+            // Built once and shared: a built message is just the framed parts, safe to re-send
+            Set<DataWithMediaType> message = null;
+            for (Client client : clients) {
+                if (!client.wants(update)) continue;
+                if (message == null) {
+                    message = SseEmitter.event().id(Long.toString(update.getSeq())).name(type)
+                            .data(update, MediaType.APPLICATION_JSON).build();
+                }
+                client.offer(message);
+            }
+        });
+    }
+
+    private String clubOf(Long eventId) {
+        if (eventId == null) return null;
+        String clubId = clubByEvent.get(eventId);
+        if (clubId != null) return clubId;
+        clubId = eventRepository.findById(eventId).map(Event::getClubId).orElse(null);
+        if (clubId != null) clubByEvent.put(eventId, clubId);
+        return clubId;
+    }
+
+    @PreDestroy
+    void stop() {
+        sender.shutdownNow();
+        for (Client client : clients) {
+            client.emitter.complete();
+        }
+    }
+
+    private final class Client {
+        final SseEmitter emitter;
+        final boolean admin;
+        final String clubId;
+        final Long userId;
+        final BlockingQueue<Set<DataWithMediaType>> buffer;
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicInteger dropped = new AtomicInteger();
+
+        Client(SseEmitter emitter, boolean admin, String clubId, Long userId, int bufferSize) {
+            this.emitter = emitter;
+            this.admin = admin;
+            this.clubId = clubId;
+            this.userId = userId;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        }
+
+        boolean wants(LiveUpdate update) {
+            if (EVENT_CHANGED.equals(update.getType()) || EVENT_DELETED.equals(update.getType())) return true;
+            if (admin) return true;
+            if (clubId != null && clubId.equals(update.getClubId())) return true;
+            return userId != null && userId.equals(update.getUserId());
+        }
+
+        void offer(Set<DataWithMediaType> message) {
+            if (!buffer.offer(message)) {
+                // Slow consumer: cut it loose instead of buffering without bound
+                if (dropped.getAndIncrement() == 0) {
+                    log.info("Dropping slow live-update client after {} buffered messages", buffer.size());
+                    clients.remove(this);
+                    emitter.complete();
+                }
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        // At most one drain per client at a time, so sends are never interleaved
+        private void drain() {
+            try {
+                Set<DataWithMediaType> next;
+                while ((next = buffer.poll()) != null) {
+                    emitter.send(next);
+                }
+            } catch (IOException | IllegalStateException e) {
+                clients.remove(this);
+                buffer.clear();
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+    }
+}
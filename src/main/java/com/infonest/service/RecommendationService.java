@@ -0,0 +1,210 @@
+package com.infonest.service;
+
+import com.infonest.dto.Recommendation;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Item-item recommendations from co-registrations. A sparse matrix
+ * (event -> other event -> number of students registered for both) is built
+ * from the registrations table on startup and then updated per registration:
+ * registering for X bumps (X, Y) and (Y, X) for each Y the student already has.
+ * A student's list is their events' rows summed, minus what they already have,
+ * limited to visible upcoming events; it is cached per user until they register
+ * again or the entry ages out.
+ *
+ * Memory is bounded: each row keeps its strongest MAX_NEIGHBOURS entries, each
+ * student's history its latest MAX_HISTORY events, and the per-user cache is LRU.
+ */
+@Service
+public class RecommendationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RecommendationService.class);
+
+    public static final int TOP_N = 20;
+
+    private static final int MAX_HISTORY = 50;
+    private static final int MAX_NEIGHBOURS = 100;
+    private static final int USER_CACHE_SIZE = 10_000;
+    private static final long USER_CACHE_TTL_MS = 5 * 60 * 1000L;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    // Guarded by this
+    private final Map<Long, LinkedHashSet<Long>> history = new HashMap<>();
+    private final Map<Long, Map<Long, Integer>> coRegistrations = new HashMap<>();
+
+    private final Map<Long, Cached> userCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Cached> eldest) {
+                    return size() > USER_CACHE_SIZE;
+                }
+            });
+
+    // Called after a registration row is committed
+    public void record(Long userId, Long eventId) {
+        if (userId == null || eventId == null) return;
+        synchronized (this) {
+            add(userId, eventId);
+        }
+        userCache.remove(userId);
+    }
+
+    // Deletes are rare and archival comes in batches, so one full sweep per removal is fine
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        Set<Long> eventIds = removed.getEventIds();
+        synchronized (this) {
+            for (Long eventId : eventIds) {
+                coRegistrations.remove(eventId);
+            }
+            for (Map<Long, Integer> row : coRegistrations.values()) {
+                row.keySet().removeAll(eventIds);
+            }
+            for (Set<Long> events : history.values()) {
+                events.removeAll(eventIds);
+            }
+        }
+        userCache.clear();
+    }
+
+    public List<Recommendation> forUser(Long userId, Integer limit) {
+        int k = limit == null || limit <= 0 ? TOP_N : Math.min(limit, TOP_N);
+        Cached cached = userCache.get(userId);
+        if (cached == null || System.currentTimeMillis() - cached.builtAt > USER_CACHE_TTL_MS) {
+            cached = new Cached(compute(userId), System.currentTimeMillis());
+            userCache.put(userId, cached);
+        }
+        return cached.items.subList(0, Math.min(k, cached.items.size()));
+    }
+
+    private List<Recommendation> compute(Long userId) {
+        Map<Long, Integer> scores = new HashMap<>();
+        synchronized (this) {
+            Set<Long> own = history.getOrDefault(userId, new LinkedHashSet<>());
+            for (Long eventId : own) {
+                Map<Long, Integer> row = coRegistrations.get(eventId);
+                if (row == null) continue;
+                for (Map.Entry<Long, Integer> e : row.entrySet()) {
+                    if (!own.contains(e.getKey())) scores.merge(e.getKey(), e.getValue(), Integer::sum);
+                }
+            }
+        }
+        if (scores.isEmpty()) return List.of();
+
+        // Some of the best candidates will be past or hidden, so take a few more than needed
+        List<Map.Entry<Long, Integer>> best = topEntries(scores, TOP_N * 3);
+        Map<Long, Event> events = eventRepository.findAllById(best.stream().map(Map.Entry::getKey).toList()).stream()
+                .collect(Collectors.toMap(Event::getEventId, Function.identity()));
+
+        LocalDate today = LocalDate.now();
+        List<Recommendation> result = new ArrayList<>(TOP_N);
+        for (Map.Entry<Long, Integer> candidate : best) {
+            Event e = events.get(candidate.getKey());
+            if (e == null || Boolean.TRUE.equals(e.getHidden())) continue;
+            if (e.getEventDate() != null && e.getEventDate().isBefore(today)) continue;
+            result.add(new Recommendation(e.getEventId(), e.getEventName(), e.getClubId(), e.getEventDate(),
+                    candidate.getValue()));
+            if (result.size() == TOP_N) break;
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    // Load every (user, event) pair once; a few hundred thousand rows is a few seconds at startup
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        int[] rows = { 0 };
+        synchronized (this) {
+            history.clear();
+            coRegistrations.clear();
+            jdbcTemplate.query("SELECT user_id, event_id FROM registrations WHERE status <> 'REJECTED' "
+                    + "ORDER BY user_id, reg_id", rs -> {
+                        add(rs.getLong("user_id"), rs.getLong("event_id"));
+                        rows[0]++;
+                    });
+        }
+        userCache.clear();
+        log.info("Co-registration matrix built from {} registrations ({} events)", rows[0], coRegistrations.size());
+    }
+
+    // Caller holds the lock
+    private void add(Long userId, Long eventId) {
+        LinkedHashSet<Long> own = history.computeIfAbsent(userId, id -> new LinkedHashSet<>());
+        if (own.contains(eventId)) return;
+        for (Long other : own) {
+            bump(eventId, other);
+            bump(other, eventId);
+        }
+        own.add(eventId);
+        if (own.size() > MAX_HISTORY) {
+            Iterator<Long> oldest = own.iterator();
+            oldest.next();
+            oldest.remove();
+        }
+    }
+
+    private void bump(Long from, Long to) {
+        Map<Long, Integer> row = coRegistrations.computeIfAbsent(from, id -> new HashMap<>());
+        row.merge(to, 1, Integer::sum);
+        // Prune in chunks rather than on every insert: keep the strongest half
+        if (row.size() > 2 * MAX_NEIGHBOURS) {
+            Map<Long, Integer> kept = new HashMap<>();
+            for (Map.Entry<Long, Integer> e : topEntries(row, MAX_NEIGHBOURS)) {
+                kept.put(e.getKey(), e.getValue());
+            }
+            coRegistrations.put(from, kept);
+        }
+    }
+
+    // Highest counts first; ties broken by the newer (higher) event ID
+    private static List<Map.Entry<Long, Integer>> topEntries(Map<Long, Integer> counts, int k) {
+        Comparator<Map.Entry<Long, Integer>> byScore = Map.Entry.<Long, Integer>comparingByValue()
+                .thenComparing(Map.Entry.comparingByKey());
+        PriorityQueue<Map.Entry<Long, Integer>> heap = new PriorityQueue<>(k + 1, byScore);
+        for (Map.Entry<Long, Integer> e : counts.entrySet()) {
+            heap.offer(Map.entry(e.getKey(), e.getValue()));
+            if (heap.size() > k) heap.poll();
+        }
+        List<Map.Entry<Long, Integer>> top = new ArrayList<>(heap);
+        top.sort(byScore.reversed());
+        return top;
+    }
+
+    private static final class Cached {
+        final List<Recommendation> items;
+        final long builtAt;
+
+        Cached(List<Recommendation> items, long builtAt) {
+            this.items = items;
+            this.builtAt = builtAt;
+        }
+    }
+}
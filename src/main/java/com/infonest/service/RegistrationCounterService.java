@@ -0,0 +1,104 @@
+package com.infonest.service;
+
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-event registration counters. Writers only bump a striped LongAdder (no shared
+ * lock, no DB round-trip); reads are the events.registration_count column (already
+ * loaded with the event) plus whatever has not been flushed yet.
+ */
+@Service
+public class RegistrationCounterService {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationCounterService.class);
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    // Shared by writers from their commit until their delta is recorded; reconcile takes it exclusively
+    private final ReentrantReadWriteLock gate = new ReentrantReadWriteLock();
+
+    public void increment(Long eventId) {
+        add(eventId, 1);
+    }
+
+    public void decrement(Long eventId) {
+        add(eventId, -1);
+    }
+
+    // O(1): no query, the base value comes with the already-loaded event
+    public long count(Event event) {
+        long base = event.getRegistrationCount() != null ? event.getRegistrationCount() : 0L;
+        return base + pendingFor(event.getEventId());
+    }
+
+    public long pendingFor(Long eventId) {
+        LongAdder adder = pending.get(eventId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Runs a registration write (its commit plus the increment/decrement calls for
+     * it) so that reconcile() sees either both or neither. Deltas are recorded after
+     * commit; without this a recount in between would count the row twice.
+     */
+    public void counted(Runnable write) {
+        gate.readLock().lock();
+        try {
+            write.run();
+        } finally {
+            gate.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        pending.keySet().removeAll(removed.getEventIds());
+    }
+
+    private void add(Long eventId, long delta) {
+        if (eventId == null) return;
+        AfterCommit.run(() -> pending.computeIfAbsent(eventId, id -> new LongAdder()).add(delta));
+    }
+
+    // Moves unflushed deltas into the counter column, one UPDATE per changed event
+    public synchronized void flush() {
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sumThenReset();
+            if (delta == 0) continue;
+            try {
+                eventRepository.addToRegistrationCount(entry.getKey(), delta);
+            } catch (RuntimeException e) {
+                entry.getValue().add(delta); // Retry on the next flush
+                log.warn("Registration counter flush failed for event {}: {}", entry.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    // Safety net against lost deltas (crash before flush, manual SQL edits)
+    // Writers wait for the recount, so every committed row's delta is flushed and none lands in between
+    public synchronized void reconcile() {
+        gate.writeLock().lock();
+        try {
+            flush();
+            int fixed = eventRepository.reconcileRegistrationCounts();
+            if (fixed > 0) {
+                log.info("Reconciled registration counters for {} event(s)", fixed);
+            }
+        } finally {
+            gate.writeLock().unlock();
+        }
+    }
+}
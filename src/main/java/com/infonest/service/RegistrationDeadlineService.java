@@ -0,0 +1,85 @@
+package com.infonest.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Enforces Event.deadline. The deadline day itself is still open; from the next
+ * day the event is closed by one bulk UPDATE over the (registration_closed,
+ * deadline) index. Closed event IDs are also kept in memory, so the
+ * registration endpoint checks them without a query.
+ */
+@Service
+public class RegistrationDeadlineService {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationDeadlineService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UpcomingEventsCache upcomingEventsCache;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    private final Set<Long> closed = ConcurrentHashMap.newKeySet();
+
+    public boolean isClosed(Long eventId) {
+        return eventId != null && closed.contains(eventId);
+    }
+
+    // Midnight job (and startup): close everything whose deadline is before today
+    public int closeExpired() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "UPDATE events SET registration_closed = true "
+                        + "WHERE registration_closed = false AND deadline < ? RETURNING event_id",
+                Long.class, Date.valueOf(LocalDate.now()));
+        closed.addAll(ids);
+        if (!ids.isEmpty()) {
+            upcomingEventsCache.invalidate();
+            for (Long id : ids) {
+                liveUpdateBus.eventChanged(id);
+            }
+            log.info("Closed registration for {} events past their deadline", ids.size());
+        }
+        return ids.size();
+    }
+
+    // After an event is created or edited: the deadline may have moved either way
+    public void refresh(Long eventId) {
+        if (eventId == null) return;
+        List<Boolean> state = jdbcTemplate.queryForList(
+                "UPDATE events SET registration_closed = (deadline IS NOT NULL AND deadline < ?) "
+                        + "WHERE event_id = ? RETURNING registration_closed",
+                Boolean.class, Date.valueOf(LocalDate.now()), eventId);
+        if (!state.isEmpty() && Boolean.TRUE.equals(state.get(0))) {
+            closed.add(eventId);
+        } else {
+            closed.remove(eventId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        closed.removeAll(removed.getEventIds());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        closeExpired();
+        closed.addAll(jdbcTemplate.queryForList("SELECT event_id FROM events WHERE registration_closed = true", Long.class));
+    }
+}
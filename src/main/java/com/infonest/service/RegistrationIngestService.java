@@ -0,0 +1,268 @@
+package com.infonest.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * High-throughput registration path. Requests are queued and a single writer
+ * commits them in groups with one multi-row INSERT ... ON CONFLICT DO NOTHING,
+ * relying on the unique (user_id, event_id) index instead of a read-then-write check.
+ * Each caller still waits for its own regId (or learns it was a duplicate).
+ */
+@Service
+public class RegistrationIngestService {
+
+    private static final Logger log = LoggerFactory.getLogger(RegistrationIngestService.class);
+
+    // How long shutdown waits for the writer to drain the queue before interrupting it
+    private static final long STOP_WAIT_MS = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private RegistrationCounterService registrationCounterService;
+
+    @Autowired
+    private SeatAllocationService seatAllocationService;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    @Autowired
+    private TrendingEventsService trendingEventsService;
+
+    @Autowired
+    private RecommendationService recommendationService;
+
+    @Value("${infonest.registration.batch-size:200}")
+    private int batchSize;
+
+    @Value("${infonest.registration.max-wait-ms:5}")
+    private long maxWaitMs;
+
+    @Value("${infonest.registration.queue-capacity:10000}")
+    private int queueCapacity;
+
+    private BlockingQueue<PendingRegistration> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    /**
+     * Outcome for one caller: regId and status (APPLIED or WAITLISTED) of the new
+     * row, or duplicate = true if the user was already registered for the event.
+     */
+    public static final class Result {
+        private final Long regId;
+        private final boolean duplicate;
+        private final String status;
+        private final LocalDateTime submissionDate;
+
+        Result(Long regId, boolean duplicate, String status, LocalDateTime submissionDate) {
+            this.regId = regId;
+            this.duplicate = duplicate;
+            this.status = status;
+            this.submissionDate = submissionDate;
+        }
+
+        public Long getRegId() { return regId; }
+        public boolean isDuplicate() { return duplicate; }
+        public String getStatus() { return status; }
+        public LocalDateTime getSubmissionDate() { return submissionDate; }
+    }
+
+    @PostConstruct
+    void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::writeLoop, "registration-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        // Let the writer commit what is already queued; interrupt it only if it's stuck
+        writer.join(STOP_WAIT_MS);
+        if (writer.isAlive()) {
+            writer.interrupt();
+            writer.join(STOP_WAIT_MS);
+        }
+        // Whatever slipped in after the writer's last drain
+        abandonQueued();
+    }
+
+    public CompletableFuture<Result> submit(Long userId, Long eventId) {
+        // Seat is taken up front; duplicates and failed writes hand it back
+        boolean seated = seatAllocationService.tryAcquire(eventId);
+        PendingRegistration p = new PendingRegistration(userId, eventId, seated, LocalDateTime.now());
+        if (!running) {
+            p.releaseSeat();
+            p.future.completeExceptionally(new IllegalStateException("Server is shutting down, please retry"));
+        } else if (!queue.offer(p)) {
+            p.releaseSeat();
+            p.future.completeExceptionally(new IllegalStateException("Registration queue is full, please retry"));
+        }
+        return p.future;
+    }
+
+    private void writeLoop() {
+        List<PendingRegistration> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingRegistration first = queue.poll(500, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                // Give a burst a few ms to fill the batch, then commit it as one transaction
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+                while (batch.size() < batchSize) {
+                    long left = deadline - System.nanoTime();
+                    if (left <= 0) break;
+                    PendingRegistration next = queue.poll(left, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+
+                writeOrFail(batch);
+            } catch (InterruptedException e) {
+                // Forced stop while filling a batch: still commit what is in hand
+                if (!running) {
+                    writeOrFail(batch);
+                    break;
+                }
+            } finally {
+                batch.clear();
+            }
+        }
+        abandonQueued();
+    }
+
+    private void writeOrFail(List<PendingRegistration> batch) {
+        if (batch.isEmpty()) return;
+        try {
+            writeBatch(batch);
+        } catch (RuntimeException e) {
+            log.error("Registration batch of {} failed: {}", batch.size(), e.getMessage());
+            fail(batch, e);
+        }
+    }
+
+    // Callers get an error right away instead of waiting out their timeout, and seats go back
+    private void abandonQueued() {
+        List<PendingRegistration> left = new ArrayList<>();
+        queue.drainTo(left);
+        if (left.isEmpty()) return;
+        log.warn("Registration writer stopped with {} queued registrations; failing them", left.size());
+        fail(left, new IllegalStateException("Server is shutting down, please retry"));
+    }
+
+    private static void fail(List<PendingRegistration> batch, Exception e) {
+        for (PendingRegistration p : batch) {
+            p.releaseSeat();
+            p.future.completeExceptionally(e);
+        }
+    }
+
+    private void writeBatch(List<PendingRegistration> batch) {
+        // Same (user, event) twice in one burst: only the first goes to the DB
+        Map<String, PendingRegistration> unique = new LinkedHashMap<>();
+        List<PendingRegistration> sameBatchDuplicates = new ArrayList<>();
+        for (PendingRegistration p : batch) {
+            if (unique.putIfAbsent(p.key(), p) != null) sameBatchDuplicates.add(p);
+        }
+
+        StringBuilder sql = new StringBuilder(
+                "INSERT INTO registrations (event_id, user_id, status, submission_date) VALUES ");
+        List<Object> args = new ArrayList<>(unique.size() * 4);
+        int i = 0;
+        for (PendingRegistration p : unique.values()) {
+            sql.append(i++ == 0 ? "(?, ?, ?, ?)" : ", (?, ?, ?, ?)");
+            args.add(p.eventId);
+            args.add(p.userId);
+            args.add(p.status());
+            args.add(Timestamp.valueOf(p.submittedAt));
+        }
+        sql.append(" ON CONFLICT (user_id, event_id) DO NOTHING RETURNING reg_id, user_id, event_id");
+
+        Map<String, Long> inserted = new LinkedHashMap<>();
+        // Commit and counter deltas as one step, so a reconcile never recounts rows whose delta is still to come
+        registrationCounterService.counted(() -> {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                    jdbcTemplate.query(sql.toString(), rs -> {
+                        inserted.put(rs.getLong("user_id") + ":" + rs.getLong("event_id"), rs.getLong("reg_id"));
+                    }, args.toArray()));
+            for (PendingRegistration p : unique.values()) {
+                if (inserted.containsKey(p.key())) registrationCounterService.increment(p.eventId);
+            }
+        });
+
+        for (PendingRegistration p : unique.values()) {
+            Long regId = inserted.get(p.key());
+            if (regId != null) {
+                liveUpdateBus.registrationAdded(p.eventId, regId, p.userId, p.status());
+                trendingEventsService.record(p.eventId, p.submittedAt);
+                recommendationService.record(p.userId, p.eventId);
+                p.future.complete(new Result(regId, false, p.status(), p.submittedAt));
+            } else {
+                p.releaseSeat();
+                p.future.complete(new Result(null, true, null, p.submittedAt));
+            }
+        }
+        for (PendingRegistration p : sameBatchDuplicates) {
+            p.releaseSeat();
+            p.future.complete(new Result(null, true, null, p.submittedAt));
+        }
+    }
+
+    private final class PendingRegistration {
+        final Long userId;
+        final Long eventId;
+        final boolean seated;
+        final LocalDateTime submittedAt;
+        final CompletableFuture<Result> future = new CompletableFuture<>();
+
+        PendingRegistration(Long userId, Long eventId, boolean seated, LocalDateTime submittedAt) {
+            this.userId = userId;
+            this.eventId = eventId;
+            this.seated = seated;
+            this.submittedAt = submittedAt;
+        }
+
+        String key() {
+            return userId + ":" + eventId;
+        }
+
+        String status() {
+            return seated ? "APPLIED" : SeatAllocationService.WAITLISTED;
+        }
+
+        void releaseSeat() {
+            if (seated) seatAllocationService.release(eventId);
+        }
+    }
+}
@@ -0,0 +1,355 @@
+package com.infonest.service;
+
+import com.infonest.dto.RoomOccupancy;
+import com.infonest.dto.RoomStatus;
+import com.infonest.model.Schedules;
+import com.infonest.model.VenueBooking;
+import com.infonest.repository.ScheduleRepository;
+import com.infonest.repository.VenueBookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Reverse index: room -> who occupies it and when. Rooms are kept in a sorted map so
+ * a whole block (room-name prefix) is a range scan, and each room keeps its slots
+ * sorted by start time so "now" and "next" are range lookups around the current time.
+ * Loaded lazily on first use, then kept up to date by imports and bookings.
+ */
+@Service
+public class RoomOccupancyService {
+
+    private static final int DEFAULT_UPCOMING = 5;
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private VenueBookingRepository venueBookingRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final TreeMap<String, Room> rooms = new TreeMap<>();
+    // Needed to undo a teacher's rows on re-import / booking on cancel
+    private final Map<String, List<Slot>> schedulesByEmail = new HashMap<>();
+    private final Map<Long, Slot> bookingsById = new HashMap<>();
+    private volatile boolean loaded = false;
+    // Writes committed while the first load runs; replayed on top of its snapshot
+    private final List<Runnable> writesDuringLoad = new ArrayList<>();
+    private boolean loading = false;
+
+    // ==================== QUERIES ====================
+
+    public RoomStatus getRoomStatus(String room) {
+        return getRoomStatus(room, LocalDateTime.now());
+    }
+
+    RoomStatus getRoomStatus(String room, LocalDateTime now) {
+        ensureLoaded();
+        String key = ClashDetectionService.normalizeRoom(room);
+
+        lock.readLock().lock();
+        try {
+            Room r = key == null ? null : rooms.get(key);
+            if (r == null) {
+                return new RoomStatus(room, new ArrayList<>(), new ArrayList<>());
+            }
+            return r.status(now.toLocalDate(), now.toLocalTime(), DEFAULT_UPCOMING);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Every room whose name starts with the prefix, e.g. "A-2" for Block A, floor 2
+    public List<RoomStatus> getBlockStatus(String prefix) {
+        ensureLoaded();
+        String normalized = ClashDetectionService.normalizeRoom(prefix);
+        String from = normalized == null ? "" : normalized;
+        LocalDateTime now = LocalDateTime.now();
+
+        lock.readLock().lock();
+        try {
+            List<RoomStatus> result = new ArrayList<>();
+            for (Room r : rooms.subMap(from, true, from + Character.MAX_VALUE, false).values()) {
+                result.add(r.status(now.toLocalDate(), now.toLocalTime(), DEFAULT_UPCOMING));
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ==================== INCREMENTAL UPDATES ====================
+
+    // Schedule import replaces all of a teacher's rows
+    public void replaceTeacherSchedule(String email, List<Schedules> saved) {
+        List<Slot> rows = new ArrayList<>();
+        for (Schedules s : saved) {
+            Slot slot = fromSchedule(s);
+            if (slot != null) rows.add(slot);
+        }
+        AfterCommit.run(() -> write(() -> {
+            removeScheduleRows(email);
+            String key = ClashDetectionService.normalizeEmail(email);
+            for (Slot slot : rows) {
+                room(slot).add(slot);
+            }
+            if (key != null) schedulesByEmail.put(key, rows);
+        }));
+    }
+
+    public void removeTeacherSchedule(String email) {
+        AfterCommit.run(() -> write(() -> removeScheduleRows(email)));
+    }
+
+    public void addBooking(VenueBooking booking) {
+        Slot slot = fromBooking(booking);
+        if (slot == null) return;
+        AfterCommit.run(() -> write(() -> {
+            Slot previous = bookingsById.put(slot.view.getId(), slot);
+            if (previous != null) room(previous).remove(previous);
+            room(slot).add(slot);
+        }));
+    }
+
+    public void removeBooking(Long bookingId) {
+        AfterCommit.run(() -> write(() -> {
+            Slot slot = bookingsById.remove(bookingId);
+            if (slot != null) room(slot).remove(slot);
+        }));
+    }
+
+    // ==================== INTERNALS ====================
+
+    private void ensureLoaded() {
+        if (loaded) return;
+        synchronized (this) {
+            if (loaded) return;
+            synchronized (writesDuringLoad) {
+                loading = true;
+            }
+            try {
+                List<Schedules> schedules = scheduleRepository.findAll();
+                List<VenueBooking> bookings = venueBookingRepository.findAllConfirmedWithVenue();
+
+                lock.writeLock().lock();
+                try {
+                    for (Schedules s : schedules) {
+                        Slot slot = fromSchedule(s);
+                        String email = ClashDetectionService.normalizeEmail(s.getEmail());
+                        if (slot == null || email == null) continue;
+                        room(slot).add(slot);
+                        schedulesByEmail.computeIfAbsent(email, e -> new ArrayList<>()).add(slot);
+                    }
+                    for (VenueBooking b : bookings) {
+                        Slot slot = fromBooking(b);
+                        if (slot == null) continue;
+                        room(slot).add(slot);
+                        bookingsById.put(slot.view.getId(), slot);
+                    }
+                    // Every write replaces/removes by key, so replaying one the snapshot already has is harmless
+                    synchronized (writesDuringLoad) {
+                        for (Runnable change : writesDuringLoad) {
+                            change.run();
+                        }
+                        writesDuringLoad.clear();
+                        loading = false;
+                        loaded = true;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            } catch (RuntimeException e) {
+                // Nothing applied; the next request loads again from committed state
+                lock.writeLock().lock();
+                try {
+                    rooms.clear();
+                    schedulesByEmail.clear();
+                    bookingsById.clear();
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                synchronized (writesDuringLoad) {
+                    writesDuringLoad.clear();
+                    loading = false;
+                }
+                throw e;
+            }
+        }
+    }
+
+    private void write(Runnable change) {
+        if (!loaded) {
+            synchronized (writesDuringLoad) {
+                if (loading) {
+                    writesDuringLoad.add(change);
+                    return;
+                }
+                // Before the first load nothing is kept: the load reads committed DB state anyway
+                if (!loaded) return;
+            }
+        }
+        lock.writeLock().lock();
+        try {
+            change.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeScheduleRows(String email) {
+        String key = ClashDetectionService.normalizeEmail(email);
+        List<Slot> old = key == null ? null : schedulesByEmail.remove(key);
+        if (old == null) return;
+        for (Slot slot : old) {
+            room(slot).remove(slot);
+        }
+    }
+
+    private Room room(Slot slot) {
+        String displayName = slot.view.getRoom();
+        return rooms.computeIfAbsent(ClashDetectionService.normalizeRoom(displayName), k -> new Room(displayName));
+    }
+
+    private static Slot fromSchedule(Schedules s) {
+        if (ClashDetectionService.normalizeRoom(s.getRoomNo()) == null || s.getDayOfWeek() == null
+                || s.getStartTime() == null || s.getEndTime() == null) {
+            return null;
+        }
+        return new Slot(s.getDayOfWeek(), new RoomOccupancy(s.getRoomNo().trim(), "SCHEDULE", s.getId(), s.getTeacherName(),
+                s.getSubject() + " (" + s.getBatchName() + ")", null, s.getStartTime(), s.getEndTime()));
+    }
+
+    private static Slot fromBooking(VenueBooking b) {
+        if (b.getBookingId() == null || b.getVenue() == null || !"CONFIRMED".equals(b.getStatus())
+                || ClashDetectionService.normalizeRoom(b.getVenue().getName()) == null) {
+            return null;
+        }
+        String label = b.getPurpose() + (b.getEventName() != null ? " - " + b.getEventName() : "");
+        return new Slot(null, new RoomOccupancy(b.getVenue().getName(), "BOOKING", b.getBookingId(),
+                b.getBookedByName(), label, b.getBookingDate(), b.getStartTime(), b.getEndTime()));
+    }
+
+    // Weekly timetable rows carry their day; bookings carry a date in the view instead
+    private static final class Slot {
+        final DayOfWeek day;
+        final RoomOccupancy view;
+
+        Slot(DayOfWeek day, RoomOccupancy view) {
+            this.day = day;
+            this.view = view;
+        }
+    }
+
+    private static final class Room {
+        final String name;
+        final Map<DayOfWeek, Day> weekly = new EnumMap<>(DayOfWeek.class);
+        final TreeMap<LocalDate, Day> dated = new TreeMap<>();
+
+        Room(String name) {
+            this.name = name;
+        }
+
+        void add(Slot slot) {
+            Day day = slot.day != null
+                    ? weekly.computeIfAbsent(slot.day, d -> new Day())
+                    : dated.computeIfAbsent(slot.view.getDate(), d -> new Day());
+            day.add(slot);
+        }
+
+        void remove(Slot slot) {
+            Day day = slot.day != null ? weekly.get(slot.day) : dated.get(slot.view.getDate());
+            if (day == null) return;
+            day.remove(slot);
+            if (day.isEmpty()) {
+                if (slot.day != null) weekly.remove(slot.day);
+                else dated.remove(slot.view.getDate());
+            }
+        }
+
+        RoomStatus status(LocalDate date, LocalTime time, int upcomingLimit) {
+            List<RoomOccupancy> current = new ArrayList<>();
+            List<RoomOccupancy> upcoming = new ArrayList<>();
+            Day weeklyDay = weekly.get(date.getDayOfWeek());
+            if (weeklyDay != null) weeklyDay.collect(time, upcomingLimit, current, upcoming);
+            Day datedDay = dated.get(date);
+            if (datedDay != null) datedDay.collect(time, upcomingLimit, current, upcoming);
+
+            upcoming.sort(Comparator.comparing(RoomOccupancy::getStartTime));
+            if (upcoming.size() > upcomingLimit) {
+                upcoming = new ArrayList<>(upcoming.subList(0, upcomingLimit));
+            }
+            return new RoomStatus(name, current, upcoming);
+        }
+    }
+
+    /**
+     * One room's slots for one day, sorted by start time. Slots can overlap (clashes
+     * allowed on import, timetable rows and bookings share a room), so the longest
+     * slot length bounds how far back a still-running slot can have started.
+     */
+    private static final class Day {
+        final TreeMap<LocalTime, List<Slot>> byStart = new TreeMap<>();
+        int longestSeconds = 0;
+
+        void add(Slot slot) {
+            byStart.computeIfAbsent(slot.view.getStartTime(), t -> new ArrayList<>()).add(slot);
+            longestSeconds = Math.max(longestSeconds, lengthSeconds(slot));
+        }
+
+        void remove(Slot slot) {
+            List<Slot> atStart = byStart.get(slot.view.getStartTime());
+            if (atStart == null || !atStart.remove(slot)) return;
+            if (atStart.isEmpty()) byStart.remove(slot.view.getStartTime());
+            if (lengthSeconds(slot) == longestSeconds) {
+                longestSeconds = 0;
+                for (List<Slot> slots : byStart.values()) {
+                    for (Slot s : slots) longestSeconds = Math.max(longestSeconds, lengthSeconds(s));
+                }
+            }
+        }
+
+        boolean isEmpty() {
+            return byStart.isEmpty();
+        }
+
+        void collect(LocalTime time, int limit, List<RoomOccupancy> current, List<RoomOccupancy> upcoming) {
+            // Anything that started before time - longest has ended by now
+            int fromSecond = time.toSecondOfDay() - longestSeconds;
+            NavigableMap<LocalTime, List<Slot>> started = fromSecond <= 0
+                    ? byStart.headMap(time, true)
+                    : byStart.subMap(LocalTime.ofSecondOfDay(fromSecond), true, time, true);
+            for (List<Slot> atStart : started.values()) {
+                for (Slot slot : atStart) {
+                    if (slot.view.getEndTime().isAfter(time)) current.add(slot.view);
+                }
+            }
+
+            // Each source contributes at most `limit`; status() merges and trims
+            int taken = 0;
+            for (List<Slot> atStart : byStart.tailMap(time, false).values()) {
+                if (taken >= limit) break;
+                for (Slot slot : atStart) {
+                    upcoming.add(slot.view);
+                    taken++;
+                }
+            }
+        }
+
+        private static int lengthSeconds(Slot slot) {
+            return Math.max(0, slot.view.getEndTime().toSecondOfDay() - slot.view.getStartTime().toSecondOfDay());
+        }
+    }
+}
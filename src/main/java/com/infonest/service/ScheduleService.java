@@ -1,4 +1,6 @@
 package com.infonest.service; // Resolves: declared package "" does not match
+import com.infonest.dto.LocatorStatus;
+import com.infonest.dto.ScheduleClash;
 import com.infonest.model.Schedules;
 import com.infonest.model.VenueBooking;
 import com.infonest.repository.ScheduleRepository;
@@ -14,10 +16,16 @@ import org.springframework.web.multipart.MultipartFile;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
 //import java.util.Optional;
 import java.util.Set;
 import java.util.HashSet;
@@ -33,12 +41,38 @@ public class ScheduleService {
 
     @Autowired
     private UserRepository userRepository; // Role validation ke liye zaroori hai
+
+    @Autowired
+    private ClashDetectionService clashDetectionService;
+
+    @Autowired
+    private StaffLocationService staffLocationService;
+
+    @Autowired
+    private RoomOccupancyService roomOccupancyService;
+
+    private static final int LOCATOR_CACHE_LIMIT = 1000;
+    // Keyed by whatever name the public search sends, so bounded by size, least recently used out first
+    private final Map<String, CachedStatus> locatorCache = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedStatus> eldest) {
+                    return size() > LOCATOR_CACHE_LIMIT;
+                }
+            });
+
     // added boolean isUpdate parameter
     // Inside ScheduleService.java
 
     // Add 'uiTeacherName' to parameters
+    // allowClashes = false rejects the upload (409) if the new rows overlap another
+    // teacher's room, the same teacher elsewhere, or a confirmed venue booking
     @Transactional(rollbackFor = Exception.class)
-public void importExcel(MultipartFile file, String email, String teacherName, boolean isUpdate) throws Exception {
+public void importExcel(MultipartFile file, String email, String teacherName, boolean isUpdate,
+        boolean allowClashes) throws Exception {
+    email = normalizeEmail(email);
+    if (email == null) throw new IllegalArgumentException("Teacher email is required");
+
     // 1. Wipe existing schedule to avoid duplicates
     repository.deleteByEmail(email);
 
@@ -54,10 +88,14 @@ public void importExcel(MultipartFile file, String email, String teacherName, bo
         // Check if Teacher Name (Col 0) is empty to stop processing
         if (row.getCell(0) == null || formatter.formatCellValue(row.getCell(0)).isEmpty()) continue;
 
-        String day = formatter.formatCellValue(row.getCell(1)).trim().toUpperCase(); // Day is Col 1
+        String dayCell = formatter.formatCellValue(row.getCell(1)); // Day is Col 1
+        DayOfWeek day = parseDay(dayCell);
+        if (day == null) {
+            throw new IllegalArgumentException("Row " + (row.getRowNum() + 1) + ": unknown day '" + dayCell + "'");
+        }
         
         // logic: Tuesday is a holiday, skip any entries found for it
-        if ("TUESDAY".equals(day)) continue; 
+        if (day == DayOfWeek.TUESDAY) continue; 
 
         Schedules s = new Schedules();
         
@@ -81,18 +119,67 @@ public void importExcel(MultipartFile file, String email, String teacherName, bo
 
         list.add(s);
     }
+    // Clash check runs after the old rows are gone, so only other data counts
+    if (!allowClashes) {
+        List<ScheduleClash> clashes = clashDetectionService.findClashesForImport(list);
+        if (!clashes.isEmpty()) {
+            throw new IllegalArgumentException(describeClashes(clashes));
+        }
+    }
+
     // Save all rows at once
     repository.saveAll(list);
+    staffLocationService.invalidate();
+    roomOccupancyService.replaceTeacherSchedule(email, list);
     }
 }
 
+    private String describeClashes(List<ScheduleClash> clashes) {
+        StringBuilder sb = new StringBuilder("Timetable clashes found (" + clashes.size() + "):");
+        for (ScheduleClash c : clashes.subList(0, Math.min(5, clashes.size()))) {
+            sb.append(" [").append(c.getKind()).append(" ").append(c.getResource())
+              .append(" on ").append(c.getDate() != null ? c.getDate() : c.getDayOfWeek())
+              .append(": ").append(c.getFirst().getTeacher()).append(" ")
+              .append(c.getFirst().getStartTime()).append("-").append(c.getFirst().getEndTime())
+              .append(" vs ").append(c.getSecond().getTeacher()).append(" ")
+              .append(c.getSecond().getStartTime()).append("-").append(c.getSecond().getEndTime()).append("]");
+        }
+        if (clashes.size() > 5) sb.append(" ...");
+        return sb.toString();
+    }
+
 @Transactional
 public void deleteTeacherSchedule(String email) {
     System.out.println("Attempting to delete schedule for email: [" + email + "]");
-    repository.deleteByEmail(email.trim());
+    email = normalizeEmail(email);
+    repository.deleteByEmail(email);
+    staffLocationService.invalidate();
+    roomOccupancyService.removeTeacherSchedule(email);
     // The transaction will handle the commit automatically
 }
 
+    public List<Schedules> getTeacherSchedule(String email) {
+        return repository.findByEmail(normalizeEmail(email));
+    }
+
+    // Schedule emails are stored trimmed + lower-case so lookups are plain index equality
+    public static String normalizeEmail(String email) {
+        if (email == null) return null;
+        String e = email.trim().toLowerCase(Locale.ROOT);
+        return e.isEmpty() ? null : e;
+    }
+
+    // Accepts "Monday", "MONDAY", "mon", " Mon " ... ; null if not a day
+    public static DayOfWeek parseDay(String raw) {
+        if (raw == null) return null;
+        String d = raw.trim().toUpperCase(Locale.ROOT);
+        if (d.length() < 3) return null;
+        for (DayOfWeek day : DayOfWeek.values()) {
+            if (day.name().startsWith(d)) return day;
+        }
+        return null;
+    }
+
     // Try several heuristics to locate a manageable teacher record from uploaded name/email
     private List<User> findMatchingUsers(String raw) {
         String q = raw == null ? "" : raw.trim();
@@ -133,16 +220,66 @@ public void deleteTeacherSchedule(String email) {
     }
 
     public String getRealTimeStatus(String name) {
-        LocalTime now = LocalTime.now();
-        LocalDate today = LocalDate.now();
+        return getRealTimeStatusWithExpiry(name).getMessage();
+    }
+
+    // Status only changes at slot boundaries (class/booking start or end, 9:00, 17:00),
+    // so each answer is cached per (teacher, slot) until the next boundary or a data change
+    public LocatorStatus getRealTimeStatusWithExpiry(String name) {
+        LocalDateTime now = LocalDateTime.now();
+        String key = name == null ? "" : name.trim().toLowerCase();
+        long version = staffLocationService.dataVersion();
+
+        CachedStatus cached = locatorCache.get(key);
+        if (cached != null && cached.isValid(now, version)) {
+            return cached.status;
+        }
+
+        CachedStatus fresh = computeRealTimeStatus(name, now, version);
+        locatorCache.put(key, fresh);
+        return fresh.status;
+    }
+
+    // Loads the teacher's whole day (2 queries) and evaluates it in memory,
+    // which gives both the current status and the next time it can change
+    private CachedStatus computeRealTimeStatus(String name, LocalDateTime nowDateTime, long version) {
+        LocalTime now = nowDateTime.toLocalTime();
+        LocalDate today = nowDateTime.toLocalDate();
         DayOfWeek day = today.getDayOfWeek();
 
+        List<VenueBooking> bookings = venueBookingRepository.findDayBookingsByTeacher(name, today);
+        List<Schedules> slots = day == DayOfWeek.TUESDAY
+                ? new ArrayList<>()
+                : repository.findDaySlots(name, day);
+
+        TreeSet<LocalTime> boundaries = new TreeSet<>();
+        boundaries.add(StaffLocationService.OPENING);
+        boundaries.add(StaffLocationService.CLOSING);
+        for (VenueBooking b : bookings) {
+            boundaries.add(b.getStartTime());
+            boundaries.add(b.getEndTime());
+        }
+        for (Schedules s : slots) {
+            boundaries.add(s.getStartTime());
+            boundaries.add(s.getEndTime());
+        }
+        LocalTime next = boundaries.higher(now);
+        LocalTime floor = boundaries.floor(now);
+        LocalDateTime validUntil = next != null ? today.atTime(next) : today.plusDays(1).atStartOfDay();
+        LocalDateTime slotStart = floor != null ? today.atTime(floor) : today.atStartOfDay();
+
+        return new CachedStatus(new LocatorStatus(evaluateStatus(name, day, now, bookings, slots), validUntil),
+                slotStart, version);
+    }
+
+    private String evaluateStatus(String name, DayOfWeek day, LocalTime now,
+            List<VenueBooking> bookings, List<Schedules> slots) {
         // PRIORITY 1: Check for active venue bookings (Override all time/day restrictions)
-        List<VenueBooking> activeBookings = venueBookingRepository.findActiveBookingByTeacher(name, today, now);
-        if (!activeBookings.isEmpty()) {
-            VenueBooking booking = activeBookings.get(0); // Get the first active booking
-            return "📍 " + name + " is in " + booking.getVenue().getName() + 
-                   " (Booked: " + booking.getStartTime() + " - " + booking.getEndTime() + ")";
+        for (VenueBooking booking : bookings) {
+            if (!now.isBefore(booking.getStartTime()) && now.isBefore(booking.getEndTime())) {
+                return "📍 " + name + " is in " + booking.getVenue().getName() +
+                       " (Booked: " + booking.getStartTime() + " - " + booking.getEndTime() + ")";
+            }
         }
 
         // PRIORITY 2: Check regular schedule (with time/day restrictions)
@@ -152,14 +289,33 @@ public void deleteTeacherSchedule(String email) {
         }
 
         // Working Hours Check (9-5)
-        if (now.isBefore(LocalTime.of(9, 0)) || now.isAfter(LocalTime.of(17, 0))) {
+        if (now.isBefore(StaffLocationService.OPENING) || !now.isBefore(StaffLocationService.CLOSING)) {
             return "College is closed. Staff available 9 AM - 5 PM.";
         }
 
-        return repository.findCurrentLocation(name, day.toString().toUpperCase(), now)
-        .map(s -> "📍 " + s.getTeacherName() + " is in " + s.getRoomNo() + 
-                  " taking " + s.getSubject() + " for Batch: " + s.getBatchName())
-        .orElse("No active class at this time. Please check Sitting Cabin.");
+        for (Schedules s : slots) {
+            if (!now.isBefore(s.getStartTime()) && now.isBefore(s.getEndTime())) {
+                return "📍 " + s.getTeacherName() + " is in " + s.getRoomNo() +
+                       " taking " + s.getSubject() + " for Batch: " + s.getBatchName();
+            }
+        }
+        return "No active class at this time. Please check Sitting Cabin.";
+    }
+
+    private static final class CachedStatus {
+        final LocatorStatus status;
+        final LocalDateTime slotStart;
+        final long version;
+
+        CachedStatus(LocatorStatus status, LocalDateTime slotStart, long version) {
+            this.status = status;
+            this.slotStart = slotStart;
+            this.version = version;
+        }
+
+        boolean isValid(LocalDateTime now, long currentVersion) {
+            return version == currentVersion && !now.isBefore(slotStart) && now.isBefore(status.getValidUntil());
+        }
     }
 
             public String getTeacherCabin(String name) {
@@ -0,0 +1,102 @@
+package com.infonest.service;
+
+import com.infonest.dto.SearchHit;
+import com.infonest.dto.SearchPage;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keyword search over events (name + description) and clubs (name + description).
+ * Matching and ranking run on the GIN-indexed search_vector columns (see
+ * schema-postgres.sql); ts_headline is only computed for the rows of the
+ * requested page, since it re-parses the full text.
+ */
+@Service
+public class SearchService {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 50;
+
+    // Placeholder markers so the snippet can be HTML-escaped before <mark> goes in
+    private static final String HL_START = "{{hl}}";
+    private static final String HL_STOP = "{{/hl}}";
+    private static final String HEADLINE_OPTIONS = "MaxFragments=2, MaxWords=20, MinWords=5, FragmentDelimiter=\" ... \", "
+            + "StartSel=\"" + HL_START + "\", StopSel=\"" + HL_STOP + "\"";
+
+    private static final String EVENT_HITS = "SELECT 'EVENT' AS type, CAST(e.event_id AS text) AS id, "
+            + "e.event_name AS title, e.club_id, e.event_date, e.description AS body, "
+            + "ts_rank(e.search_vector, q.query) AS rank "
+            + "FROM events e, q WHERE e.hidden = false AND e.search_vector @@ q.query";
+
+    private static final String CLUB_HITS = "SELECT 'CLUB' AS type, c.club_id AS id, "
+            + "c.club_name AS title, c.club_id, CAST(NULL AS date) AS event_date, c.description AS body, "
+            + "ts_rank(c.search_vector, q.query) AS rank "
+            + "FROM clubs c, q WHERE c.search_vector @@ q.query";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * @param query free text; quotes, OR and -word work like a web search box
+     * @param type  "events", "clubs" or null for both
+     * @throws IllegalArgumentException on a blank query or unknown type
+     */
+    public SearchPage search(String query, String type, Integer page, Integer size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query is required");
+        }
+        int pageNo = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+
+        String hits;
+        if (type == null || type.isBlank()) {
+            hits = EVENT_HITS + " UNION ALL " + CLUB_HITS;
+        } else if ("events".equalsIgnoreCase(type)) {
+            hits = EVENT_HITS;
+        } else if ("clubs".equalsIgnoreCase(type)) {
+            hits = CLUB_HITS;
+        } else {
+            throw new IllegalArgumentException("type must be 'events' or 'clubs'");
+        }
+
+        // One extra row tells us whether another page exists; (type, id) makes the order total so
+        // equal-rank hits don't repeat or go missing between OFFSET pages
+        String sql = "WITH q AS (SELECT websearch_to_tsquery('english', ?) AS query), "
+                + "hits AS (" + hits + " ORDER BY rank DESC, title, type, id LIMIT ? OFFSET ?) "
+                + "SELECT h.type, h.id, h.title, h.club_id, h.event_date, h.rank, "
+                + "ts_headline('english', COALESCE(h.body, h.title), q.query, ?) AS snippet "
+                + "FROM hits h, q ORDER BY h.rank DESC, h.title, h.type, h.id";
+
+        List<SearchHit> rows = jdbcTemplate.query(sql, (rs, i) -> {
+            Date eventDate = rs.getDate("event_date");
+            return new SearchHit(
+                    rs.getString("type"),
+                    rs.getString("id"),
+                    rs.getString("title"),
+                    rs.getString("club_id"),
+                    eventDate != null ? eventDate.toLocalDate() : null,
+                    rs.getDouble("rank"),
+                    highlight(rs.getString("snippet")));
+        }, query.trim(), pageSize + 1, (long) pageNo * pageSize, HEADLINE_OPTIONS);
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+        return new SearchPage(rows, pageNo, pageSize, hasMore);
+    }
+
+    // Descriptions are user-written, so escape first and only then add our own tags
+    static String highlight(String snippet) {
+        if (snippet == null) return null;
+        return HtmlUtils.htmlEscape(snippet)
+                .replace(HL_START, "<mark>")
+                .replace(HL_STOP, "</mark>");
+    }
+}
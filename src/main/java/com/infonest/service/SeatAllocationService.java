@@ -0,0 +1,155 @@
+package com.infonest.service;
+
+import com.infonest.model.Event;
+import com.infonest.model.Registration;
+import com.infonest.model.Venue;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.RegistrationRepository;
+import com.infonest.repository.VenueRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seat limits per event. Each event keeps an AtomicInteger of taken seats and
+ * registrations grab one with a CAS loop, so concurrent requests can never push
+ * it past the limit. Registrations without a seat are WAITLISTED and promoted
+ * (oldest first) when a seated registration is rejected.
+ */
+@Service
+public class SeatAllocationService {
+
+    public static final String WAITLISTED = "WAITLISTED";
+
+    // Statuses that do not occupy a seat
+    private static final List<String> SEATLESS = List.of(WAITLISTED, "REJECTED");
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private RegistrationRepository registrationRepository;
+
+    @Autowired
+    private LiveUpdateBus liveUpdateBus;
+
+    private final Map<Long, Seats> seats = new ConcurrentHashMap<>();
+
+    // true = seat granted; false = event is full, caller should waitlist
+    public boolean tryAcquire(Long eventId) {
+        return seatsFor(eventId).tryAcquire();
+    }
+
+    public void release(Long eventId) {
+        Seats s = seats.get(eventId);
+        if (s != null) s.taken.decrementAndGet();
+    }
+
+    public static boolean holdsSeat(String status) {
+        return status != null && !SEATLESS.contains(status);
+    }
+
+    /**
+     * A seated registration was rejected: hand its seat straight to the oldest
+     * waitlisted registration (no release/re-acquire window), or free it.
+     */
+    public Optional<Registration> onSeatFreed(Long eventId) {
+        Optional<Registration> promoted = promoteOldest(eventId);
+        if (promoted.isEmpty()) {
+            release(eventId);
+        }
+        return promoted;
+    }
+
+    // Seat limit or venue changed: re-read the limit and fill any new seats from the waitlist
+    public void refresh(Long eventId) {
+        Seats s = seats.get(eventId);
+        if (s == null) return;
+        eventRepository.findById(eventId).ifPresent(e -> s.limit = resolveLimit(e));
+        while (s.tryAcquire()) {
+            if (promoteOldest(eventId).isEmpty()) {
+                s.taken.decrementAndGet();
+                break;
+            }
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        seats.keySet().removeAll(removed.getEventIds());
+    }
+
+    // Remaining seats, or null if the event has no limit
+    public Integer remaining(Long eventId) {
+        Seats s = seatsFor(eventId);
+        return s.limit == Integer.MAX_VALUE ? null : Math.max(0, s.limit - s.taken.get());
+    }
+
+    private Optional<Registration> promoteOldest(Long eventId) {
+        // Conditional UPDATE so two concurrent promotions can't pick the same row
+        while (true) {
+            Optional<Registration> next = registrationRepository
+                    .findFirstByEventIdAndStatusOrderByRegIdAsc(eventId, WAITLISTED);
+            if (next.isEmpty()) return Optional.empty();
+            Registration reg = next.get();
+            if (registrationRepository.updateStatusIfCurrent(reg.getRegId(), WAITLISTED, "APPLIED") == 1) {
+                reg.setStatus("APPLIED");
+                liveUpdateBus.registrationStatusChanged(eventId, reg.getRegId(), reg.getUserId(), "APPLIED");
+                return Optional.of(reg);
+            }
+        }
+    }
+
+    private Seats seatsFor(Long eventId) {
+        return seats.computeIfAbsent(eventId, id -> {
+            int limit = eventRepository.findById(id).map(this::resolveLimit).orElse(Integer.MAX_VALUE);
+            long taken = registrationRepository.countByEventIdAndStatusNotIn(id, SEATLESS);
+            return new Seats(limit, (int) taken);
+        });
+    }
+
+    // Explicit seat limit, else the capacity of the venue the event is held in, else unlimited
+    private int resolveLimit(Event event) {
+        if (event.getSeatLimit() != null && event.getSeatLimit() > 0) {
+            return event.getSeatLimit();
+        }
+        String venueRef = event.getVenueId();
+        if (venueRef == null || venueRef.isBlank()) {
+            return Integer.MAX_VALUE;
+        }
+        Optional<Venue> venue;
+        try {
+            venue = venueRepository.findById(Long.parseLong(venueRef.trim()));
+        } catch (NumberFormatException e) {
+            venue = venueRepository.findFirstByNameIgnoreCase(venueRef.trim());
+        }
+        return venue.map(Venue::getCapacity).filter(c -> c != null && c > 0).orElse(Integer.MAX_VALUE);
+    }
+
+    private static final class Seats {
+        volatile int limit;
+        final AtomicInteger taken;
+
+        Seats(int limit, int taken) {
+            this.limit = limit;
+            this.taken = new AtomicInteger(taken);
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                int current = taken.get();
+                if (current >= limit) return false;
+                if (taken.compareAndSet(current, current + 1)) return true;
+            }
+        }
+    }
+}
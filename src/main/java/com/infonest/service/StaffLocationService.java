@@ -0,0 +1,229 @@
+package com.infonest.service;
+
+import com.infonest.dto.StaffBoardSnapshot;
+import com.infonest.dto.StaffLocation;
+import com.infonest.model.Schedules;
+import com.infonest.model.VenueBooking;
+import com.infonest.repository.ScheduleRepository;
+import com.infonest.repository.VenueBookingRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Staff board: where every teacher is right now, computed once per time slot.
+ * Day data (timetable + today's bookings) is loaded once per day or data change;
+ * the board itself is recomputed in memory only when a slot boundary passes.
+ */
+@Service
+public class StaffLocationService {
+
+    static final LocalTime OPENING = LocalTime.of(9, 0);
+    static final LocalTime CLOSING = LocalTime.of(17, 0);
+
+    @Autowired
+    private ScheduleRepository scheduleRepository;
+
+    @Autowired
+    private VenueBookingRepository venueBookingRepository;
+
+    // Bumped whenever schedules or bookings change
+    private final AtomicLong dataVersion = new AtomicLong();
+
+    private volatile DayData dayData;
+    private volatile Board board;
+
+    public StaffBoardSnapshot getSnapshot() {
+        LocalDateTime now = LocalDateTime.now();
+        Board current = board;
+        if (isFresh(current, now)) return current.snapshot;
+
+        // One rebuild per slot; every other viewer waits and reuses it
+        synchronized (this) {
+            current = board;
+            if (isFresh(current, now)) return current.snapshot;
+            current = buildBoard(now);
+            board = current;
+            return current.snapshot;
+        }
+    }
+
+    public long dataVersion() {
+        return dataVersion.get();
+    }
+
+    /**
+     * Call after schedules or bookings change. Inside a transaction the bump
+     * waits for commit so a rebuild never caches uncommitted data.
+     */
+    public void invalidate() {
+        AfterCommit.run(dataVersion::incrementAndGet);
+    }
+
+    private boolean isFresh(Board b, LocalDateTime now) {
+        return b != null && b.version == dataVersion.get()
+                && !now.isBefore(b.slotStart) && now.isBefore(b.snapshot.getValidUntil());
+    }
+
+    private Board buildBoard(LocalDateTime now) {
+        long version = dataVersion.get(); // Read before loading so a concurrent change forces another rebuild
+        LocalDate date = now.toLocalDate();
+        LocalTime time = now.toLocalTime();
+
+        DayData day = dayData;
+        if (day == null || day.version != version || !day.date.equals(date)) {
+            day = loadDay(date, version);
+            dayData = day;
+        }
+
+        List<StaffLocation> staff = new ArrayList<>(day.teachers.size());
+        for (TeacherDay td : day.teachers) {
+            staff.add(locate(td, date.getDayOfWeek(), time));
+        }
+
+        LocalTime next = day.boundaries.higher(time);
+        LocalTime floor = day.boundaries.floor(time);
+        LocalDateTime validUntil = next != null ? date.atTime(next) : date.plusDays(1).atStartOfDay();
+        LocalDateTime slotStart = floor != null ? date.atTime(floor) : date.atStartOfDay();
+
+        return new Board(version, slotStart, new StaffBoardSnapshot(now, validUntil, List.copyOf(staff)));
+    }
+
+    private DayData loadDay(LocalDate date, long version) {
+        DayOfWeek today = date.getDayOfWeek();
+        Map<String, TeacherDay> byEmail = new LinkedHashMap<>();
+
+        for (Schedules s : scheduleRepository.findAll()) {
+            String email = ClashDetectionService.normalizeEmail(s.getEmail());
+            if (email == null) continue;
+            TeacherDay td = byEmail.computeIfAbsent(email, e -> new TeacherDay(e, s.getTeacherName()));
+            if (td.cabin == null && s.getSittingCabin() != null && !s.getSittingCabin().isBlank()) {
+                td.cabin = s.getSittingCabin();
+            }
+            if (s.getDayOfWeek() == today
+                    && s.getStartTime() != null && s.getEndTime() != null) {
+                td.classes.add(s);
+            }
+        }
+
+        for (VenueBooking b : venueBookingRepository.findConfirmedWithVenueByDate(date)) {
+            String email = ClashDetectionService.normalizeEmail(b.getBookedByEmail());
+            if (email == null) continue;
+            byEmail.computeIfAbsent(email, e -> new TeacherDay(e, b.getBookedByName())).bookings.add(b);
+        }
+
+        TreeSet<LocalTime> boundaries = new TreeSet<>();
+        List<TeacherDay> teachers = new ArrayList<>(byEmail.values());
+        for (TeacherDay td : teachers) {
+            td.seal();
+            boundaries.addAll(td.boundaries);
+        }
+        teachers.sort(Comparator.comparing(td -> td.name == null ? td.email : td.name, String.CASE_INSENSITIVE_ORDER));
+
+        return new DayData(date, version, teachers, boundaries);
+    }
+
+    // Same priority order as ScheduleService.getRealTimeStatus: booking, holiday, hours, class, cabin
+    static StaffLocation locate(TeacherDay td, DayOfWeek day, LocalTime time) {
+        LocalTime until = td.boundaries.higher(time);
+
+        for (VenueBooking b : td.bookings) {
+            if (!time.isBefore(b.getStartTime()) && time.isBefore(b.getEndTime())) {
+                String venue = b.getVenue().getName();
+                return new StaffLocation(td.email, td.name, "BOOKING", venue,
+                        "📍 " + td.name + " is in " + venue + " (Booked: " + b.getStartTime() + " - "
+                                + b.getEndTime() + ")",
+                        until);
+            }
+        }
+
+        if (day == DayOfWeek.TUESDAY) {
+            return new StaffLocation(td.email, td.name, "HOLIDAY", null,
+                    "Tuesdays are off! Enjoy your holiday.", until);
+        }
+
+        if (time.isBefore(OPENING) || !time.isBefore(CLOSING)) {
+            return new StaffLocation(td.email, td.name, "CLOSED", null,
+                    "College is closed. Staff available 9 AM - 5 PM.", until);
+        }
+
+        for (Schedules s : td.classes) {
+            if (!time.isBefore(s.getStartTime()) && time.isBefore(s.getEndTime())) {
+                return new StaffLocation(td.email, td.name, "CLASS", s.getRoomNo(),
+                        "📍 " + s.getTeacherName() + " is in " + s.getRoomNo() + " taking " + s.getSubject()
+                                + " for Batch: " + s.getBatchName(),
+                        until);
+            }
+        }
+
+        return new StaffLocation(td.email, td.name, "CABIN", td.cabin,
+                "No active class at this time. Please check Sitting Cabin.", until);
+    }
+
+    // One teacher's timetable + bookings for a single day
+    static final class TeacherDay {
+        final String email;
+        final String name;
+        String cabin;
+        final List<Schedules> classes = new ArrayList<>();
+        final List<VenueBooking> bookings = new ArrayList<>();
+        final TreeSet<LocalTime> boundaries = new TreeSet<>();
+
+        TeacherDay(String email, String name) {
+            this.email = email;
+            this.name = name;
+        }
+
+        void seal() {
+            classes.sort(Comparator.comparing(Schedules::getStartTime));
+            bookings.sort(Comparator.comparing(VenueBooking::getStartTime));
+            boundaries.add(OPENING);
+            boundaries.add(CLOSING);
+            for (Schedules s : classes) {
+                boundaries.add(s.getStartTime());
+                boundaries.add(s.getEndTime());
+            }
+            for (VenueBooking b : bookings) {
+                boundaries.add(b.getStartTime());
+                boundaries.add(b.getEndTime());
+            }
+        }
+    }
+
+    private static final class DayData {
+        final LocalDate date;
+        final long version;
+        final List<TeacherDay> teachers;
+        final TreeSet<LocalTime> boundaries;
+
+        DayData(LocalDate date, long version, List<TeacherDay> teachers, TreeSet<LocalTime> boundaries) {
+            this.date = date;
+            this.version = version;
+            this.teachers = teachers;
+            this.boundaries = boundaries;
+        }
+    }
+
+    private static final class Board {
+        final long version;
+        final LocalDateTime slotStart;
+        final StaffBoardSnapshot snapshot;
+
+        Board(long version, LocalDateTime slotStart, StaffBoardSnapshot snapshot) {
+            this.version = version;
+            this.slotStart = slotStart;
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.infonest.service;
+
+import com.infonest.dto.DashboardRegistration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Everything the student dashboard lists, in one query: the user's registrations
+ * joined with their event summary and club name (instead of one /events/{id}
+ * call per registration). Reads the (user_id, event_id) unique index.
+ */
+@Service
+public class StudentDashboardService {
+
+    private static final String SQL = "SELECT r.reg_id, r.status, r.submission_date, CAST(r.form_data AS text) AS form_data, "
+            + "r.event_id, e.event_name, e.event_date, e.event_time, e.deadline, e.venue_id, e.club_id, c.club_name "
+            + "FROM registrations r "
+            + "LEFT JOIN events e ON e.event_id = r.event_id "
+            + "LEFT JOIN clubs c ON c.club_id = e.club_id "
+            + "WHERE r.user_id = ? "
+            + "ORDER BY e.event_date DESC NULLS LAST, r.reg_id DESC";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public List<DashboardRegistration> registrationsFor(Long userId) {
+        return jdbcTemplate.query(SQL, (rs, i) -> {
+            Timestamp submitted = rs.getTimestamp("submission_date");
+            Date date = rs.getDate("event_date");
+            Time time = rs.getTime("event_time");
+            Date deadline = rs.getDate("deadline");
+            return new DashboardRegistration(
+                    rs.getLong("reg_id"),
+                    rs.getString("status"),
+                    submitted != null ? submitted.toLocalDateTime() : null,
+                    rs.getString("form_data"),
+                    rs.getLong("event_id"),
+                    rs.getString("event_name"),
+                    date != null ? date.toLocalDate() : null,
+                    time != null ? time.toLocalTime() : null,
+                    deadline != null ? deadline.toLocalDate() : null,
+                    rs.getString("venue_id"),
+                    rs.getString("club_id"),
+                    rs.getString("club_name"));
+        }, userId);
+    }
+}
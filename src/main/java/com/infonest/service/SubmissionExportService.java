@@ -0,0 +1,224 @@
+package com.infonest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Streams a club's submissions as CSV or XLSX. Rows come from a server-side
+ * cursor (fetch size, inside a read-only transaction so PostgreSQL keeps it
+ * open) and go straight to the output stream; XLSX uses SXSSF, which keeps only
+ * a small window of rows in memory. The form-data keys are collected with one
+ * DISTINCT query up front so each key becomes its own column.
+ */
+@Service
+public class SubmissionExportService {
+
+    private static final String[] BASE_COLUMNS = {
+            "Reg ID", "Event ID", "Event", "User ID", "First Name", "Last Name", "Email", "Status", "Submitted At" };
+
+    // Rows SXSSF keeps in memory before flushing to its temp file
+    private static final int XLSX_WINDOW = 200;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${infonest.export.fetch-size:500}")
+    private int fetchSize;
+
+    public enum Format { CSV, XLSX }
+
+    public void export(String clubId, Long eventId, String status, Format format, OutputStream out) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.setFetchSize(fetchSize);
+
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        tx.executeWithoutResult(s -> {
+            List<Object> args = new ArrayList<>();
+            String where = buildWhere(clubId, eventId, status, args);
+
+            List<String> formKeys = jdbc.queryForList(
+                    "SELECT DISTINCT k FROM registrations r JOIN events e ON e.event_id = r.event_id, "
+                            + "jsonb_object_keys(CASE WHEN jsonb_typeof(r.form_data) = 'object' "
+                            + "THEN r.form_data ELSE '{}'::jsonb END) AS k" + where + " ORDER BY k",
+                    String.class, args.toArray());
+
+            String sql = "SELECT r.reg_id, r.event_id, e.event_name, r.user_id, u.first_name, u.last_name, u.email, "
+                    + "r.status, r.submission_date, r.form_data "
+                    + "FROM registrations r JOIN events e ON e.event_id = r.event_id "
+                    + "LEFT JOIN users u ON u.user_id = r.user_id" + where + " ORDER BY r.event_id, r.reg_id";
+
+            try {
+                if (format == Format.XLSX) {
+                    writeXlsx(jdbc, sql, args, formKeys, out);
+                } else {
+                    writeCsv(jdbc, sql, args, formKeys, out);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private static String buildWhere(String clubId, Long eventId, String status, List<Object> args) {
+        StringBuilder where = new StringBuilder(" WHERE e.club_id = ?");
+        args.add(clubId);
+        if (eventId != null) {
+            where.append(" AND r.event_id = ?");
+            args.add(eventId);
+        }
+        if (status != null && !status.isBlank()) {
+            where.append(" AND r.status = ?");
+            args.add(status.trim().toUpperCase());
+        }
+        return where.toString();
+    }
+
+    private void writeCsv(JdbcTemplate jdbc, String sql, List<Object> args, List<String> formKeys,
+            OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF'); // BOM so Excel opens UTF-8 correctly
+        writeCsvLine(writer, header(formKeys));
+
+        jdbc.query(sql, (RowCallbackHandler) rs -> {
+            try {
+                writeCsvLine(writer, row(rs, formKeys));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, args.toArray());
+        writer.flush();
+    }
+
+    private void writeXlsx(JdbcTemplate jdbc, String sql, List<Object> args, List<String> formKeys,
+            OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(XLSX_WINDOW);
+        try {
+            workbook.setCompressTempFiles(true);
+            Sheet sheet = workbook.createSheet("Submissions");
+            writeXlsxRow(sheet.createRow(0), header(formKeys));
+
+            int[] rowNum = { 1 };
+            jdbc.query(sql, (RowCallbackHandler) rs -> writeXlsxRow(sheet.createRow(rowNum[0]++), row(rs, formKeys)),
+                    args.toArray());
+
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose(); // Delete the temp file behind the streamed sheet
+            workbook.close();
+        }
+    }
+
+    private static List<String> header(List<String> formKeys) {
+        List<String> header = new ArrayList<>(List.of(BASE_COLUMNS));
+        header.addAll(formKeys);
+        return header;
+    }
+
+    private List<String> row(ResultSet rs, List<String> formKeys) throws SQLException {
+        List<String> cells = new ArrayList<>(BASE_COLUMNS.length + formKeys.size());
+        cells.add(rs.getString("reg_id"));
+        cells.add(rs.getString("event_id"));
+        cells.add(rs.getString("event_name"));
+        cells.add(rs.getString("user_id"));
+        cells.add(rs.getString("first_name"));
+        cells.add(rs.getString("last_name"));
+        cells.add(rs.getString("email"));
+        cells.add(rs.getString("status"));
+        Timestamp submitted = rs.getTimestamp("submission_date");
+        cells.add(submitted != null ? submitted.toLocalDateTime().toString() : null);
+
+        JsonNode form = parse(rs.getString("form_data"));
+        for (String key : formKeys) {
+            cells.add(form != null ? flatten(form.get(key)) : null);
+        }
+        return cells;
+    }
+
+    private JsonNode parse(String json) {
+        if (json == null) return null;
+        try {
+            JsonNode node = objectMapper.readTree(json);
+            return node != null && node.isObject() ? node : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    // Scalars as text, arrays as "a; b; c", nested objects as compact JSON
+    private static String flatten(JsonNode value) {
+        if (value == null || value.isNull()) return null;
+        if (value.isValueNode()) return value.asText();
+        if (value.isArray()) {
+            StringBuilder sb = new StringBuilder();
+            for (Iterator<JsonNode> it = value.elements(); it.hasNext(); ) {
+                if (sb.length() > 0) sb.append("; ");
+                JsonNode item = it.next();
+                sb.append(item.isValueNode() ? item.asText() : item.toString());
+            }
+            return sb.toString();
+        }
+        return value.toString();
+    }
+
+    private static void writeXlsxRow(Row row, List<String> cells) {
+        for (int i = 0; i < cells.size(); i++) {
+            String value = cells.get(i);
+            if (value != null) row.createCell(i).setCellValue(value);
+        }
+    }
+
+    private static void writeCsvLine(Writer writer, List<String> cells) throws IOException {
+        for (int i = 0; i < cells.size(); i++) {
+            if (i > 0) writer.write(',');
+            writer.write(csvCell(cells.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    static String csvCell(String value) {
+        if (value == null || value.isEmpty()) return "";
+        // Answers are user input: don't let a spreadsheet run them as formulas
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
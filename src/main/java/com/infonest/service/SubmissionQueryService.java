@@ -0,0 +1,165 @@
+package com.infonest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.infonest.dto.SubmissionPage;
+import com.infonest.model.Registration;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Server-side filtering of a club's submissions on their form answers.
+ * Each field filter becomes a jsonb containment test (form_data @> '{"year":"2"}'),
+ * which the GIN index on form_data answers; sorting can use a form field or the
+ * submission date.
+ */
+@Service
+public class SubmissionQueryService {
+
+    public static final int DEFAULT_SIZE = 25;
+    public static final int MAX_SIZE = 200;
+
+    private static final Pattern FIELD_NAME = Pattern.compile("[A-Za-z0-9_ .-]{1,64}");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * @param fields form field -> required value; a value also matches when the
+     *               field is an array containing it (e.g. skills: ["Java", "C"])
+     * @param sort   "submissionDate" (default), "regId" or a form field name
+     * @throws IllegalArgumentException on an invalid field name or sort direction
+     */
+    public SubmissionPage query(String clubId, Long eventId, String status, Map<String, String> fields,
+            String sort, String dir, Integer page, Integer size) {
+        int pageNo = page == null || page < 0 ? 0 : page;
+        int pageSize = size == null || size <= 0 ? DEFAULT_SIZE : Math.min(size, MAX_SIZE);
+
+        StringBuilder sql = new StringBuilder(
+                "SELECT r.reg_id, r.event_id, r.user_id, r.status, r.form_data, r.submission_date "
+                        + "FROM registrations r JOIN events e ON e.event_id = r.event_id WHERE e.club_id = ?");
+        List<Object> args = new ArrayList<>();
+        args.add(clubId);
+
+        if (eventId != null) {
+            sql.append(" AND r.event_id = ?");
+            args.add(eventId);
+        }
+        if (status != null && !status.isBlank()) {
+            sql.append(" AND r.status = ?");
+            args.add(status.trim().toUpperCase());
+        }
+        for (Map.Entry<String, String> f : fields.entrySet()) {
+            String name = checkFieldName(f.getKey());
+            String value = f.getValue();
+            sql.append(" AND (r.form_data @> CAST(? AS jsonb) OR r.form_data @> CAST(? AS jsonb)");
+            args.add(toJson(objectMapper.createObjectNode().put(name, value)));
+            ObjectNode asArray = objectMapper.createObjectNode();
+            asArray.putArray(name).add(value);
+            args.add(toJson(asArray));
+            // Numeric answers may have been stored as numbers, not strings
+            JsonNode number = asNumber(value);
+            if (number != null) {
+                sql.append(" OR r.form_data @> CAST(? AS jsonb)");
+                ObjectNode asNumber = objectMapper.createObjectNode();
+                asNumber.set(name, number);
+                args.add(toJson(asNumber));
+            }
+            sql.append(")");
+        }
+
+        String direction;
+        if (dir == null || dir.isBlank() || "asc".equalsIgnoreCase(dir)) {
+            direction = "ASC";
+        } else if ("desc".equalsIgnoreCase(dir)) {
+            direction = "DESC";
+        } else {
+            throw new IllegalArgumentException("dir must be 'asc' or 'desc'");
+        }
+
+        if (sort == null || sort.isBlank() || "submissionDate".equals(sort)) {
+            sql.append(" ORDER BY r.submission_date ").append(direction).append(" NULLS LAST, r.reg_id");
+        } else if ("regId".equals(sort)) {
+            sql.append(" ORDER BY r.reg_id ").append(direction);
+        } else {
+            sql.append(" ORDER BY r.form_data ->> ? ").append(direction).append(" NULLS LAST, r.reg_id");
+            args.add(checkFieldName(sort));
+        }
+
+        // One extra row tells us whether another page exists
+        sql.append(" LIMIT ? OFFSET ?");
+        args.add(pageSize + 1);
+        args.add((long) pageNo * pageSize);
+
+        List<Registration> rows = jdbcTemplate.query(sql.toString(), (rs, i) -> {
+            Registration r = new Registration();
+            r.setRegId(rs.getLong("reg_id"));
+            r.setEventId(rs.getLong("event_id"));
+            r.setUserId(rs.getLong("user_id"));
+            r.setStatus(rs.getString("status"));
+            r.setFormData(rs.getString("form_data"));
+            Timestamp submitted = rs.getTimestamp("submission_date");
+            r.setSubmissionDate(submitted != null ? submitted.toLocalDateTime() : null);
+            return r;
+        }, args.toArray());
+
+        boolean hasMore = rows.size() > pageSize;
+        if (hasMore) {
+            rows = new ArrayList<>(rows.subList(0, pageSize));
+        }
+        return new SubmissionPage(rows, pageNo, pageSize, hasMore);
+    }
+
+    /**
+     * Form data arrives either as a JSON string (current frontend) or as an object;
+     * either way it must be a JSON object before it goes into the jsonb column.
+     */
+    public String normalizeFormData(Object formData) {
+        if (formData == null) return null;
+        try {
+            JsonNode node = formData instanceof String s ? objectMapper.readTree(s) : objectMapper.valueToTree(formData);
+            if (node == null || !node.isObject()) {
+                throw new IllegalArgumentException("formData must be a JSON object");
+            }
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("formData is not valid JSON");
+        }
+    }
+
+    private static String checkFieldName(String name) {
+        if (name == null || !FIELD_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("Invalid form field name: " + name);
+        }
+        return name;
+    }
+
+    private JsonNode asNumber(String value) {
+        if (value == null || !value.matches("-?\\d+(\\.\\d+)?")) return null;
+        try {
+            return objectMapper.readTree(value);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private String toJson(JsonNode node) {
+        try {
+            return objectMapper.writeValueAsString(node);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
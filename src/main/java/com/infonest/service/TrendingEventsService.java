@@ -0,0 +1,177 @@
+package com.infonest.service;
+
+import com.infonest.dto.TrendingEvent;
+import com.infonest.model.Event;
+import com.infonest.repository.EventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "Trending now": events ranked by registrations in the last N minutes.
+ * Each event has a ring of per-minute buckets fed by the ingest path, so a
+ * registration costs one array increment and the window slides by overwriting
+ * stale buckets. A scheduled refresh picks the top k with a bounded min-heap
+ * and publishes an immutable list, which the endpoint returns as-is. On startup
+ * the buckets are refilled from recent submission dates.
+ */
+@Service
+public class TrendingEventsService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrendingEventsService.class);
+
+    public static final int MAX_K = 20;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Value("${infonest.trending.window-minutes:60}")
+    private int windowMinutes = 60;
+
+    private final Map<Long, Window> windows = new ConcurrentHashMap<>();
+
+    private volatile List<TrendingEvent> ranking = List.of();
+
+    // Called after a registration row is committed
+    public void record(Long eventId, LocalDateTime at) {
+        if (eventId == null) return;
+        long minute = epochMinute(at != null ? at : LocalDateTime.now());
+        // A window refresh() just evicted refuses the add; the retry gets a fresh one
+        while (!windows.computeIfAbsent(eventId, id -> new Window(windowMinutes)).add(minute, 1)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // Pre-computed on refresh, so this is a field read
+    public List<TrendingEvent> top(Integer limit) {
+        List<TrendingEvent> current = ranking;
+        int k = limit == null || limit <= 0 ? current.size() : Math.min(limit, current.size());
+        return current.subList(0, k);
+    }
+
+    /**
+     * Re-ranks from the buckets: O(n log k) over the events that had a
+     * registration in the window, then one query for the names of the top k.
+     * Idle events are dropped from the map here.
+     */
+    public void refresh() {
+        long now = epochMinute(LocalDateTime.now());
+        PriorityQueue<long[]> heap = new PriorityQueue<>(MAX_K + 1, Comparator.comparingLong(a -> a[1]));
+        for (Map.Entry<Long, Window> entry : windows.entrySet()) {
+            int total = entry.getValue().total(now);
+            if (total == 0) {
+                // Re-checked under the window's lock, so a concurrent record() is never lost
+                windows.computeIfPresent(entry.getKey(), (id, w) -> w.evictIfIdle(now) ? null : w);
+                continue;
+            }
+            heap.offer(new long[] { entry.getKey(), total });
+            if (heap.size() > MAX_K) heap.poll(); // Smallest of the k+1 goes
+        }
+
+        List<long[]> top = new ArrayList<>(heap);
+        top.sort(Comparator.comparingLong((long[] a) -> a[1]).reversed().thenComparingLong(a -> a[0]));
+        if (top.isEmpty()) {
+            ranking = List.of();
+            return;
+        }
+
+        Map<Long, Event> events = eventRepository.findAllById(top.stream().map(a -> a[0]).toList()).stream()
+                .collect(Collectors.toMap(Event::getEventId, Function.identity()));
+        List<TrendingEvent> next = new ArrayList<>(top.size());
+        for (long[] t : top) {
+            Event e = events.get(t[0]);
+            // Deleted or hidden events don't show on the public strip
+            if (e == null || Boolean.TRUE.equals(e.getHidden())) continue;
+            next.add(new TrendingEvent(e.getEventId(), e.getEventName(), e.getClubId(), e.getEventDate(),
+                    (int) t[1], windowMinutes));
+        }
+        ranking = Collections.unmodifiableList(next);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        windows.keySet().removeAll(removed.getEventIds());
+    }
+
+    // Refill the buckets from the last window of registrations, then rank once
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDateTime since = LocalDateTime.now().minusMinutes(windowMinutes);
+        int[] rows = { 0 };
+        jdbcTemplate.query("SELECT event_id, date_trunc('minute', submission_date) AS minute, COUNT(*) AS n "
+                        + "FROM registrations WHERE submission_date >= ? GROUP BY 1, 2",
+                rs -> {
+                    long minute = epochMinute(rs.getTimestamp("minute").toLocalDateTime());
+                    windows.computeIfAbsent(rs.getLong("event_id"), id -> new Window(windowMinutes))
+                            .add(minute, rs.getInt("n"));
+                    rows[0]++;
+                }, Timestamp.valueOf(since));
+        refresh();
+        log.info("Trending events rebuilt from {} minute buckets", rows[0]);
+    }
+
+    private static long epochMinute(LocalDateTime at) {
+        return at.atZone(ZoneId.systemDefault()).toEpochSecond() / 60;
+    }
+
+    // Ring of per-minute counts; slot i holds the count for the minute stored in minutes[i]
+    private static final class Window {
+        private final int[] counts;
+        private final long[] minutes;
+        private boolean evicted;
+
+        Window(int size) {
+            this.counts = new int[size];
+            this.minutes = new long[size];
+        }
+
+        // false once evicted: the caller must add to the window now in the map instead
+        synchronized boolean add(long minute, int n) {
+            if (evicted) return false;
+            int slot = (int) Math.floorMod(minute, (long) counts.length);
+            if (minutes[slot] != minute) {
+                // Slot last used a full window ago (or never): start it over
+                if (minutes[slot] > minute) return true; // Older than the window, ignore
+                minutes[slot] = minute;
+                counts[slot] = 0;
+            }
+            counts[slot] += n;
+            return true;
+        }
+
+        synchronized boolean evictIfIdle(long now) {
+            if (total(now) == 0) evicted = true;
+            return evicted;
+        }
+
+        synchronized int total(long now) {
+            int sum = 0;
+            for (int i = 0; i < counts.length; i++) {
+                if (minutes[i] > now - counts.length && minutes[i] <= now) sum += counts[i];
+            }
+            return sum;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.infonest.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.infonest.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Landing-page "upcoming events" list, kept as ready-to-send JSON bytes.
+ * An entry is valid for one calendar day and one data version: any event
+ * create/update/delete/visibility change bumps the version, and the date check
+ * rolls it over at midnight. Concurrent misses wait for a single DB load.
+ */
+@Service
+public class UpcomingEventsCache {
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Bumped whenever an event changes
+    private final AtomicLong version = new AtomicLong();
+
+    private volatile Entry entry;
+
+    public byte[] getJson() {
+        LocalDate today = LocalDate.now();
+        Entry current = entry;
+        if (isFresh(current, today)) return current.json;
+
+        // One load per miss; every other request waits and reuses it
+        synchronized (this) {
+            current = entry;
+            if (isFresh(current, today)) return current.json;
+            current = load(today);
+            entry = current;
+            return current.json;
+        }
+    }
+
+    /**
+     * Call after any event change. Inside a transaction the bump waits for
+     * commit so a reload never caches uncommitted data.
+     */
+    public void invalidate() {
+        AfterCommit.run(version::incrementAndGet);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsRemoved(EventsRemoved removed) {
+        version.incrementAndGet();
+    }
+
+    // Midnight job: build the new day's list before the first visitor asks
+    public void rollover() {
+        getJson();
+    }
+
+    private boolean isFresh(Entry e, LocalDate today) {
+        return e != null && e.version == version.get() && e.date.equals(today);
+    }
+
+    private Entry load(LocalDate today) {
+        long v = version.get(); // Read before loading so a concurrent change forces another load
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(
+                    eventRepository.findByHiddenFalseAndEventDateGreaterThanEqualOrderByEventDateAsc(today));
+            return new Entry(today, v, json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize upcoming events", e);
+        }
+    }
+
+    private static final class Entry {
+        final LocalDate date;
+        final long version;
+        final byte[] json;
+
+        Entry(LocalDate date, long version, byte[] json) {
+            this.date = date;
+            this.version = version;
+            this.json = json;
+        }
+    }
+}
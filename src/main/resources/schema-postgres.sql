@@ -0,0 +1,192 @@
+-- Runs on every startup after Hibernate's ddl-auto=update (see application.properties).
+-- Every statement must be idempotent.
+
+-- schedules: normalized email + enum day names so lookups are plain index equality
+UPDATE schedules
+SET email = LOWER(TRIM(email))
+WHERE email <> LOWER(TRIM(email));
+
+UPDATE schedules
+SET day_of_week = CASE LEFT(UPPER(TRIM(day_of_week)), 3)
+        WHEN 'MON' THEN 'MONDAY'
+        WHEN 'TUE' THEN 'TUESDAY'
+        WHEN 'WED' THEN 'WEDNESDAY'
+        WHEN 'THU' THEN 'THURSDAY'
+        WHEN 'FRI' THEN 'FRIDAY'
+        WHEN 'SAT' THEN 'SATURDAY'
+        WHEN 'SUN' THEN 'SUNDAY'
+        ELSE NULL
+    END
+WHERE day_of_week NOT IN ('MONDAY', 'TUESDAY', 'WEDNESDAY', 'THURSDAY', 'FRIDAY', 'SATURDAY', 'SUNDAY');
+
+-- registrations: one row per (user, event). Drop old duplicates first (keep the row
+-- that has form data, else the earliest) so the unique index can be built.
+DELETE FROM registrations r
+USING registrations k
+WHERE r.user_id = k.user_id
+  AND r.event_id = k.event_id
+  AND r.reg_id <> k.reg_id
+  AND ((k.form_data IS NOT NULL AND r.form_data IS NULL)
+       OR ((k.form_data IS NULL) = (r.form_data IS NULL) AND k.reg_id < r.reg_id));
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_registrations_user_event ON registrations (user_id, event_id);
+
+-- Full-text search (SearchService): generated tsvector columns, so every insert and
+-- update keeps them current without triggers. Names weigh more than descriptions.
+ALTER TABLE events ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(event_name, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_events_search ON events USING GIN (search_vector);
+
+ALTER TABLE clubs ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('english', COALESCE(club_name, '')), 'A') ||
+        setweight(to_tsvector('english', COALESCE(description, '')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_clubs_search ON clubs USING GIN (search_vector);
+
+-- registrations.form_data: TEXT -> jsonb. Function bodies are single-quoted because
+-- the init script splitter does not understand $$ blocks. Rows that are not valid
+-- JSON are kept as a JSON string instead of failing the conversion.
+CREATE OR REPLACE FUNCTION infonest_try_jsonb(t text) RETURNS jsonb AS '
+BEGIN
+    RETURN t::jsonb;
+EXCEPTION WHEN others THEN
+    RETURN to_jsonb(t);
+END;
+' LANGUAGE plpgsql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION infonest_form_data_to_jsonb() RETURNS void AS '
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = ''registrations'' AND column_name = ''form_data''
+                 AND data_type <> ''jsonb'') THEN
+        ALTER TABLE registrations ALTER COLUMN form_data TYPE jsonb USING infonest_try_jsonb(form_data);
+    END IF;
+END;
+' LANGUAGE plpgsql;
+
+SELECT infonest_form_data_to_jsonb();
+
+-- jsonb_path_ops: smaller index, serves the @> containment filters in SubmissionQueryService
+CREATE INDEX IF NOT EXISTS idx_registrations_form_data ON registrations USING GIN (form_data jsonb_path_ops);
+
+-- Change tracking for GET /api/v1/changes (ChangeFeedService).
+-- updated_at is set by a trigger so native and bulk SQL writes are tracked as well as
+-- entity saves. Columns passed as trigger arguments don't count as a change
+-- (events.registration_count is bumped by the counter flush every few seconds).
+-- TG_ARGV is NULL, not empty, when a trigger passes no arguments.
+CREATE OR REPLACE FUNCTION infonest_touch_updated_at() RETURNS trigger AS '
+DECLARE
+    ignored text[] := COALESCE(TG_ARGV, ''{}''::text[]);
+BEGIN
+    IF TG_OP = ''UPDATE''
+       AND (to_jsonb(NEW) - ''updated_at'' - ignored) = (to_jsonb(OLD) - ''updated_at'' - ignored) THEN
+        NEW.updated_at := OLD.updated_at;
+        RETURN NEW;
+    END IF;
+    NEW.updated_at := clock_timestamp();
+    RETURN NEW;
+END;
+' LANGUAGE plpgsql;
+
+-- Deletes leave a tombstone so sync clients can drop the row too
+CREATE TABLE IF NOT EXISTS change_tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    entity VARCHAR(32) NOT NULL,
+    entity_id VARCHAR(64) NOT NULL,
+    deleted_at TIMESTAMP NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX IF NOT EXISTS idx_change_tombstones_entity_deleted ON change_tombstones (entity, deleted_at);
+
+-- Archival moves (ArchiveService) set infonest.archiving for their transaction and leave no tombstone.
+CREATE OR REPLACE FUNCTION infonest_record_tombstone() RETURNS trigger AS '
+BEGIN
+    IF current_setting(''infonest.archiving'', true) = ''on'' THEN
+        RETURN OLD;
+    END IF;
+    INSERT INTO change_tombstones (entity, entity_id) VALUES (TG_ARGV[0], to_jsonb(OLD) ->> TG_ARGV[1]);
+    RETURN OLD;
+END;
+' LANGUAGE plpgsql;
+
+-- Triggers are recreated on every start; rows from before change tracking are
+-- stamped in between (with the trigger in place an update that only sets
+-- updated_at would be treated as a no-op).
+DROP TRIGGER IF EXISTS trg_events_touch ON events;
+DROP TRIGGER IF EXISTS trg_clubs_touch ON clubs;
+DROP TRIGGER IF EXISTS trg_venues_touch ON venues;
+DROP TRIGGER IF EXISTS trg_registrations_touch ON registrations;
+
+UPDATE events SET updated_at = clock_timestamp() WHERE updated_at IS NULL;
+UPDATE clubs SET updated_at = clock_timestamp() WHERE updated_at IS NULL;
+UPDATE venues SET updated_at = clock_timestamp() WHERE updated_at IS NULL;
+UPDATE registrations SET updated_at = clock_timestamp() WHERE updated_at IS NULL;
+
+CREATE TRIGGER trg_events_touch BEFORE INSERT OR UPDATE ON events
+    FOR EACH ROW EXECUTE FUNCTION infonest_touch_updated_at('registration_count', 'search_vector');
+CREATE TRIGGER trg_clubs_touch BEFORE INSERT OR UPDATE ON clubs
+    FOR EACH ROW EXECUTE FUNCTION infonest_touch_updated_at('search_vector');
+CREATE TRIGGER trg_venues_touch BEFORE INSERT OR UPDATE ON venues
+    FOR EACH ROW EXECUTE FUNCTION infonest_touch_updated_at();
+CREATE TRIGGER trg_registrations_touch BEFORE INSERT OR UPDATE ON registrations
+    FOR EACH ROW EXECUTE FUNCTION infonest_touch_updated_at();
+
+DROP TRIGGER IF EXISTS trg_events_tombstone ON events;
+DROP TRIGGER IF EXISTS trg_clubs_tombstone ON clubs;
+DROP TRIGGER IF EXISTS trg_venues_tombstone ON venues;
+DROP TRIGGER IF EXISTS trg_registrations_tombstone ON registrations;
+
+CREATE TRIGGER trg_events_tombstone AFTER DELETE ON events
+    FOR EACH ROW EXECUTE FUNCTION infonest_record_tombstone('events', 'event_id');
+CREATE TRIGGER trg_clubs_tombstone AFTER DELETE ON clubs
+    FOR EACH ROW EXECUTE FUNCTION infonest_record_tombstone('clubs', 'club_id');
+CREATE TRIGGER trg_venues_tombstone AFTER DELETE ON venues
+    FOR EACH ROW EXECUTE FUNCTION infonest_record_tombstone('venues', 'venue_id');
+CREATE TRIGGER trg_registrations_tombstone AFTER DELETE ON registrations
+    FOR EACH ROW EXECUTE FUNCTION infonest_record_tombstone('registrations', 'reg_id');
+
+-- Cold tier for ArchiveService: finished events and their registrations are moved here
+-- in batches so the live tables (and every query on them) only hold current data.
+-- Columns are listed explicitly; new entity columns need adding here too.
+CREATE TABLE IF NOT EXISTS events_archive (
+    event_id BIGINT PRIMARY KEY,
+    club_id VARCHAR(255),
+    venue_id VARCHAR(255),
+    event_name VARCHAR(255),
+    description TEXT,
+    event_date DATE,
+    event_time TIME,
+    deadline DATE,
+    registration_form_link VARCHAR(255),
+    seat_limit INTEGER,
+    hidden BOOLEAN,
+    registration_count BIGINT,
+    registration_closed BOOLEAN,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_events_archive_club_date ON events_archive (club_id, event_date, event_id);
+CREATE INDEX IF NOT EXISTS idx_events_archive_date ON events_archive (event_date, event_id);
+
+CREATE TABLE IF NOT EXISTS registrations_archive (
+    reg_id BIGINT PRIMARY KEY,
+    event_id BIGINT,
+    user_id BIGINT,
+    status VARCHAR(255),
+    form_data JSONB,
+    submission_date TIMESTAMP,
+    checked_in_at TIMESTAMP,
+    reminder_sent_at TIMESTAMP,
+    updated_at TIMESTAMP,
+    archived_at TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_registrations_archive_event ON registrations_archive (event_id, reg_id);
+CREATE INDEX IF NOT EXISTS idx_registrations_archive_user ON registrations_archive (user_id);
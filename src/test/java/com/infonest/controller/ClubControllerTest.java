@@ -0,0 +1,105 @@
+package com.infonest.controller;
+
+import com.infonest.dto.FacultySummary;
+import com.infonest.model.Club;
+import com.infonest.model.Event;
+import com.infonest.repository.ClubRepository;
+import com.infonest.repository.EventRepository;
+import com.infonest.repository.UserRepository;
+import com.infonest.service.FanOutService;
+import com.infonest.service.RegistrationCounterService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClubControllerTest {
+
+    @Mock
+    private ClubRepository clubRepository;
+    @Mock
+    private EventRepository eventRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Spy
+    private RegistrationCounterService registrationCounterService = new RegistrationCounterService();
+    @Spy
+    private FanOutService fanOutService = new FanOutService();
+
+    @InjectMocks
+    private ClubController clubController;
+
+    // Query-count regression: the public club page must cost the same fixed number of
+    // repository round-trips (club, events, faculty) however many events exist; registration
+    // counts come from the denormalized counter, never from per-event COUNT queries
+    @Test
+    void clubDetailsUsesFixedNumberOfQueries() {
+        List<Event> events = new ArrayList<>();
+        for (long i = 1; i <= 60; i++) {
+            Event e = new Event();
+            e.setEventId(i);
+            e.setClubId("CODE");
+            e.setRegistrationCount(i == 1 ? 7L : 0L);
+            events.add(e);
+        }
+        when(clubRepository.findById("CODE")).thenReturn(Optional.of(new Club("CODE", "Coding Club", "desc")));
+        when(eventRepository.findByClubIdAndHiddenFalse("CODE")).thenReturn(events);
+        when(userRepository.findFacultySummaryByClubId("CODE"))
+                .thenReturn(List.of(new FacultySummary(9L, "Asha", "Rao", "asha@banasthali.in")));
+
+        ResponseEntity<?> response = clubController.getClubFullDetails("CODE");
+
+        verify(clubRepository, times(1)).findById("CODE");
+        verify(eventRepository, times(1)).findByClubIdAndHiddenFalse("CODE");
+        verify(userRepository, times(1)).findFacultySummaryByClubId("CODE");
+        verify(userRepository, never()).findByClubId(anyString());
+        verifyNoMoreInteractions(clubRepository, eventRepository, userRepository);
+
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        List<?> eventRows = (List<?>) body.get("events");
+        assertThat(eventRows).hasSize(60);
+        assertThat(((Map<?, ?>) eventRows.get(0)).get("regCount")).isEqualTo(7L);
+        assertThat(((Map<?, ?>) eventRows.get(2)).get("regCount")).isEqualTo(0L);
+        assertThat((List<?>) body.get("faculty")).allMatch(f -> f instanceof FacultySummary);
+    }
+
+    // Optional parts degrade: a failing faculty lookup leaves the club and events intact
+    @Test
+    void clubDetailsSurvivesFailedOptionalBranch() {
+        when(clubRepository.findById("CODE")).thenReturn(Optional.of(new Club("CODE", "Coding Club", "desc")));
+        when(eventRepository.findByClubIdAndHiddenFalse("CODE")).thenReturn(List.of());
+        when(userRepository.findFacultySummaryByClubId("CODE")).thenThrow(new IllegalStateException("db down"));
+
+        ResponseEntity<?> response = clubController.getClubFullDetails("CODE");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(200);
+        Map<?, ?> body = (Map<?, ?>) response.getBody();
+        assertThat(body.get("club")).isInstanceOf(Club.class);
+        assertThat((List<?>) body.get("faculty")).isEmpty();
+        assertThat(body.get("partial")).isEqualTo(true);
+    }
+
+    // The club itself is required: if it can't be loaded the request fails instead of rendering half a page
+    @Test
+    void clubDetailsFailsWhenClubLookupFails() {
+        when(clubRepository.findById("CODE")).thenThrow(new IllegalStateException("db down"));
+        when(eventRepository.findByClubIdAndHiddenFalse("CODE")).thenReturn(List.of());
+        when(userRepository.findFacultySummaryByClubId("CODE")).thenReturn(List.of());
+
+        ResponseEntity<?> response = clubController.getClubFullDetails("CODE");
+
+        assertThat(response.getStatusCode().value()).isEqualTo(503);
+    }
+}
@@ -0,0 +1,79 @@
+package com.infonest.service;
+
+import com.infonest.dto.RoomOccupancy;
+import com.infonest.dto.RoomStatus;
+import com.infonest.model.Schedules;
+import com.infonest.repository.ScheduleRepository;
+import com.infonest.repository.VenueBookingRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RoomOccupancyServiceTest {
+
+    // 2025-03-17 is a Monday
+    private static final LocalDateTime MONDAY_1100 = LocalDateTime.of(2025, 3, 17, 11, 0);
+
+    @Mock
+    private ScheduleRepository scheduleRepository;
+    @Mock
+    private VenueBookingRepository venueBookingRepository;
+
+    @InjectMocks
+    private RoomOccupancyService roomOccupancyService;
+
+    // A long slot that started earlier is still running after a shorter, later one has ended
+    @Test
+    void overlappingSlotStaysCurrentAfterShorterLaterSlotEnds() {
+        Schedules lab = row(1L, "asha@banasthali.in", "09:00", "12:00");
+        Schedules lecture = row(2L, "ravi@banasthali.in", "10:00", "10:50");
+        when(scheduleRepository.findAll()).thenReturn(List.of(lab, lecture));
+        when(venueBookingRepository.findAllConfirmedWithVenue()).thenReturn(List.of());
+
+        RoomStatus status = roomOccupancyService.getRoomStatus("Room 204", MONDAY_1100);
+
+        assertThat(status.getCurrent()).extracting(RoomOccupancy::getId).containsExactly(1L);
+        assertThat(roomOccupancyService.getRoomStatus("Room 204", MONDAY_1100.withMinute(30).withHour(10)).getCurrent())
+                .extracting(RoomOccupancy::getId).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    // An import that commits while the snapshot is being read must not be lost
+    @Test
+    void writeDuringInitialLoadIsApplied() {
+        Schedules imported = row(3L, "asha@banasthali.in", "10:30", "11:30");
+        when(scheduleRepository.findAll()).thenAnswer(inv -> {
+            roomOccupancyService.replaceTeacherSchedule("asha@banasthali.in", List.of(imported));
+            return List.of();
+        });
+        when(venueBookingRepository.findAllConfirmedWithVenue()).thenReturn(List.of());
+
+        RoomStatus status = roomOccupancyService.getRoomStatus("Room 204", MONDAY_1100);
+
+        assertThat(status.getCurrent()).extracting(RoomOccupancy::getId).containsExactly(3L);
+    }
+
+    private static Schedules row(Long id, String email, String start, String end) {
+        Schedules s = new Schedules();
+        s.setId(id);
+        s.setEmail(email);
+        s.setTeacherName(email);
+        s.setSubject("DBMS");
+        s.setBatchName("B.Tech CSE 2");
+        s.setRoomNo("Room 204");
+        s.setDayOfWeek(DayOfWeek.MONDAY);
+        s.setStartTime(LocalTime.parse(start));
+        s.setEndTime(LocalTime.parse(end));
+        return s;
+    }
+}